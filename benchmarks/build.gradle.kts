@@ -0,0 +1,40 @@
+import org.springframework.boot.gradle.plugin.SpringBootPlugin
+
+plugins {
+	id("io.spring.dependency-management")
+	id("me.champeau.jmh")
+}
+
+dependencyManagement {
+	imports {
+		mavenBom(SpringBootPlugin.BOM_COORDINATES)
+	}
+}
+
+dependencies {
+	jmh(project(":user-service"))
+	jmh(project(":inventory-service"))
+	jmh("org.springframework.boot:spring-boot-starter-web")
+	jmh("org.springframework.boot:spring-boot-starter-data-jpa")
+	jmh("io.micrometer:micrometer-core")
+	jmh("com.fasterxml.jackson.module:jackson-module-blackbird")
+	jmh("com.fasterxml.jackson.dataformat:jackson-dataformat-cbor")
+	jmhRuntimeOnly("com.h2database:h2")
+	jmhRuntimeOnly("org.postgresql:postgresql")
+}
+
+jmh {
+	jmhVersion.set("1.37")
+	// gc reports allocation rate (gc.alloc.rate.norm = bytes per operation) next to throughput.
+	profilers.set(listOf("gc"))
+	benchmarkMode.set(listOf("thrpt"))
+	timeUnit.set("s")
+	fork.set(1)
+	warmupIterations.set(3)
+	iterations.set(5)
+	resultFormat.set("JSON")
+	providers.gradleProperty("jmhIncludes").orNull?.let { includes.set(listOf(it)) }
+	providers.gradleProperty("jmhDatastores").orNull?.let {
+		benchmarkParameters.put("datastore", objects.listProperty<String>().value(it.split(",")))
+	}
+}
@@ -0,0 +1,122 @@
+package com.smartorder.benchmarks;
+
+import com.smartorder.userservice.model.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.auditing.AuditingHandler;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+import org.springframework.data.mapping.Association;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.context.AbstractMappingContext;
+import org.springframework.data.mapping.context.PersistentEntities;
+import org.springframework.data.mapping.model.AnnotationBasedPersistentProperty;
+import org.springframework.data.mapping.model.BasicPersistentEntity;
+import org.springframework.data.mapping.model.Property;
+import org.springframework.data.mapping.model.SimpleTypeHolder;
+import org.springframework.data.util.TypeInformation;
+
+import java.time.LocalDateTime;
+
+/**
+ * Per-insert cost of stamping audit timestamps. {@code springAuditing} is the path user-service used
+ * before: AuditingEntityListener resolving @CreatedDate/@LastModifiedDate through mapping metadata.
+ * {@code BaseEntity} no longer carries those annotations, so that arm stamps {@link AuditedUser}, a copy
+ * of the old entity shape that still does. {@code prePersistCallback} is the entity callback with the
+ * cached clock that replaced it. End-to-end insert throughput is in {@link UserServiceBenchmark#createUser()}.
+ */
+@State(Scope.Benchmark)
+public class AuditTimestampBenchmark {
+    private AuditingEntityListener listener;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        AuditedMappingContext mappingContext = new AuditedMappingContext();
+        mappingContext.getRequiredPersistentEntity(AuditedUser.class);
+        AuditingHandler handler = new AuditingHandler(PersistentEntities.of(mappingContext));
+        listener = new AuditingEntityListener();
+        listener.setAuditingHandler(() -> handler);
+
+        AuditedUser probe = new AuditedUser("Bench User", "bench@example.com");
+        listener.touchForCreate(probe);
+        if (probe.createdAt == null || probe.updatedAt == null) {
+            throw new IllegalStateException(
+                    "AuditingHandler did not stamp the fixture; springAuditing would measure nothing");
+        }
+    }
+
+    @Benchmark
+    public AuditedUser springAuditing() {
+        AuditedUser user = new AuditedUser("Bench User", "bench@example.com");
+        listener.touchForCreate(user);
+        return user;
+    }
+
+    @Benchmark
+    public User prePersistCallback() {
+        User user = User.builder()
+                .name("Bench User")
+                .email("bench@example.com")
+                .build();
+        user.markCreated();
+        return user;
+    }
+
+    @Benchmark
+    public LocalDateTime jdkNow() {
+        return LocalDateTime.now();
+    }
+
+    /** The user entity as it was annotated before the switch to entity callbacks. */
+    public static class AuditedUser {
+        @Id
+        private Long id;
+        private final String name;
+        private final String email;
+        @CreatedDate
+        private LocalDateTime createdAt;
+        @LastModifiedDate
+        private LocalDateTime updatedAt;
+
+        AuditedUser(String name, String email) {
+            this.name = name;
+            this.email = email;
+        }
+    }
+
+    /** Minimal annotation-driven mapping context, enough for AuditingHandler to find the audit properties. */
+    static class AuditedMappingContext
+            extends AbstractMappingContext<BasicPersistentEntity<Object, AuditedProperty>, AuditedProperty> {
+
+        @Override
+        @SuppressWarnings("unchecked")
+        protected <T> BasicPersistentEntity<Object, AuditedProperty> createPersistentEntity(
+                TypeInformation<T> typeInformation) {
+            return new BasicPersistentEntity<>((TypeInformation<Object>) typeInformation);
+        }
+
+        @Override
+        protected AuditedProperty createPersistentProperty(Property property,
+                                                           BasicPersistentEntity<Object, AuditedProperty> owner,
+                                                           SimpleTypeHolder simpleTypeHolder) {
+            return new AuditedProperty(property, owner, simpleTypeHolder);
+        }
+    }
+
+    static class AuditedProperty extends AnnotationBasedPersistentProperty<AuditedProperty> {
+        AuditedProperty(Property property, PersistentEntity<?, AuditedProperty> owner,
+                        SimpleTypeHolder simpleTypeHolder) {
+            super(property, owner, simpleTypeHolder);
+        }
+
+        @Override
+        protected Association<AuditedProperty> createAssociation() {
+            return null;
+        }
+    }
+}
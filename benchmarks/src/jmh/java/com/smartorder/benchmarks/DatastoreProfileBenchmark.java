@@ -0,0 +1,104 @@
+package com.smartorder.benchmarks;
+
+import com.smartorder.userservice.dto.BatchCreateUserResponse;
+import com.smartorder.userservice.dto.CreateUserRequest;
+import com.smartorder.userservice.dto.UserPage;
+import com.smartorder.userservice.dto.UserResponse;
+import com.smartorder.userservice.service.UserBatchService;
+import com.smartorder.userservice.service.UserService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Concurrent reads and writes against each datastore choice:
+ * <ul>
+ *     <li>{@code h2-untuned}: the H2 file store with H2's default cache and write settings</li>
+ *     <li>{@code h2}: the H2 file store as configured in application.yml</li>
+ *     <li>{@code h2-pg}: the h2-pg profile (in-memory, PostgreSQL mode)</li>
+ *     <li>{@code postgres}: the postgres profile; needs a server with an empty database, see USERS_DB_URL</li>
+ * </ul>
+ * Only the H2 variants run by default; pass {@code -PjmhDatastores=h2,postgres} to pick others.
+ */
+@State(Scope.Benchmark)
+@Threads(4)
+public class DatastoreProfileBenchmark {
+    private static final int SEEDED_USERS = 1_000;
+    private static final int BATCH_SIZE = 100;
+
+    @Param({"h2-untuned", "h2", "h2-pg"})
+    public String datastore;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private Path dataDirectory;
+    private ConfigurableApplicationContext context;
+    private UserService userService;
+    private UserBatchService userBatchService;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        dataDirectory = Files.createTempDirectory("userdb-bench");
+        Path file = dataDirectory.resolve("userdb");
+        context = switch (datastore) {
+            case "h2-untuned" -> UserServiceContext.start(List.of("spring.datasource.url=jdbc:h2:file:" + file));
+            case "h2" -> UserServiceContext.start(List.of("smartorder.datastore.h2-file=" + file));
+            case "h2-pg" -> UserServiceContext.start(List.of(), "h2-pg");
+            case "postgres" -> UserServiceContext.start(List.of(), "postgres");
+            default -> throw new IllegalArgumentException("Unknown datastore " + datastore);
+        };
+        userService = context.getBean(UserService.class);
+        userBatchService = context.getBean(UserBatchService.class);
+        for (int i = 0; i < SEEDED_USERS; i++) {
+            userService.createUser(nextRequest());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.close();
+        try (Stream<Path> files = Files.walk(dataDirectory)) {
+            for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public UserResponse createUser() {
+        return userService.createUser(nextRequest());
+    }
+
+    @Benchmark
+    public BatchCreateUserResponse createUsersBatch() {
+        List<CreateUserRequest> requests = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            requests.add(nextRequest());
+        }
+        return userBatchService.createUsers(requests.iterator());
+    }
+
+    @Benchmark
+    public UserPage getUsersFirstPage() {
+        return userService.getUsers(null, null);
+    }
+
+    private CreateUserRequest nextRequest() {
+        long n = sequence.incrementAndGet();
+        return new CreateUserRequest("Bench User " + n, "bench-" + n + "@example.com");
+    }
+}
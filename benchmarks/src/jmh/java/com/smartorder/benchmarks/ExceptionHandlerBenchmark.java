@@ -0,0 +1,50 @@
+package com.smartorder.benchmarks;
+
+import com.smartorder.userservice.controller.UserController;
+import com.smartorder.userservice.dto.CreateUserRequest;
+import com.smartorder.userservice.exception.EmailAlreadyUsedException;
+import com.smartorder.userservice.exception.GlobalExceptionHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.ProblemDetail;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+@State(Scope.Benchmark)
+public class ExceptionHandlerBenchmark {
+    private GlobalExceptionHandler handler;
+    private MethodArgumentNotValidException validationException;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        handler = new GlobalExceptionHandler(new SimpleMeterRegistry());
+
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(new CreateUserRequest(null, null), "userRequest");
+        bindingResult.addError(new FieldError("userRequest", "name", "Name is required"));
+        bindingResult.addError(new FieldError("userRequest", "email", "Invalid email address"));
+        MethodParameter parameter = new MethodParameter(
+                UserController.class.getMethod("createUser", CreateUserRequest.class), 0);
+        validationException = new MethodArgumentNotValidException(parameter, bindingResult);
+    }
+
+    @Benchmark
+    public ProblemDetail validationError() {
+        return handler.handleMethodArgumentNotValidException(validationException);
+    }
+
+    @Benchmark
+    public ProblemDetail emailConflict() {
+        // Includes constructing the exception, as the service does on every conflict.
+        return handler.handleEmailAlreadyUsed(new EmailAlreadyUsedException("Email already in use"));
+    }
+
+    @Benchmark
+    public ProblemDetail unknownError() {
+        return handler.handleUnknown(new IllegalStateException("boom"));
+    }
+}
@@ -0,0 +1,80 @@
+package com.smartorder.benchmarks;
+
+import com.smartorder.userservice.dto.BatchCreateUserResponse;
+import com.smartorder.userservice.dto.CreateUserRequest;
+import com.smartorder.userservice.dto.UserPage;
+import com.smartorder.userservice.dto.UserResponse;
+import com.smartorder.userservice.service.UserBatchService;
+import com.smartorder.userservice.service.UserService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs the same service calls under the default profile (SQL echoed to stdout) and the prod profile.
+ * Unlike the other benchmarks the context keeps each profile's own SQL and logging settings; only the
+ * database and the outbox sink are swapped for private in-memory ones.
+ */
+@State(Scope.Benchmark)
+public class ProfileComparisonBenchmark {
+    private static final int SEEDED_USERS = 1_000;
+    private static final int BATCH_SIZE = 100;
+
+    @Param({"default", "prod"})
+    public String profile;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private ConfigurableApplicationContext context;
+    private UserService userService;
+    private UserBatchService userBatchService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<String> properties = new ArrayList<>(UserServiceContext.ISOLATED);
+        properties.add(UserServiceContext.inMemoryDatabase());
+        context = UserServiceContext.run(properties, profile);
+        userService = context.getBean(UserService.class);
+        userBatchService = context.getBean(UserBatchService.class);
+        for (int i = 0; i < SEEDED_USERS; i++) {
+            userService.createUser(nextRequest());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public UserResponse createUser() {
+        return userService.createUser(nextRequest());
+    }
+
+    @Benchmark
+    public UserPage getUsersFirstPage() {
+        return userService.getUsers(null, null);
+    }
+
+    @Benchmark
+    public BatchCreateUserResponse createUsersBatch() {
+        List<CreateUserRequest> requests = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            requests.add(nextRequest());
+        }
+        return userBatchService.createUsers(requests.iterator());
+    }
+
+    private CreateUserRequest nextRequest() {
+        long n = sequence.incrementAndGet();
+        return new CreateUserRequest("Bench User " + n, "bench-" + n + "@example.com");
+    }
+}
@@ -0,0 +1,66 @@
+package com.smartorder.benchmarks;
+
+import com.smart.inventory.inventory_service.model.ShardedStockCounter;
+import com.smart.inventory.inventory_service.model.SingleStockCounter;
+import com.smart.inventory.inventory_service.model.StockCounter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Reserve-then-release on one hot SKU, single counter vs sharded slots, as contention grows.
+ */
+@State(Scope.Benchmark)
+public class StockCounterBenchmark {
+    private static final long STOCK = 1_000_000;
+
+    @Param({"single", "sharded"})
+    public String mode;
+
+    @Param({"8"})
+    public int shards;
+
+    private StockCounter counter;
+
+    @Setup
+    public void setUp() {
+        counter = "sharded".equals(mode)
+                ? new ShardedStockCounter(shards, STOCK, 0)
+                : new SingleStockCounter(STOCK, 0);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean threads01() {
+        return reserveAndRelease();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean threads04() {
+        return reserveAndRelease();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public boolean threads16() {
+        return reserveAndRelease();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public boolean threads64() {
+        return reserveAndRelease();
+    }
+
+    private boolean reserveAndRelease() {
+        boolean reserved = counter.tryReserve(1);
+        if (reserved) {
+            counter.release(1);
+        }
+        return reserved;
+    }
+}
@@ -0,0 +1,51 @@
+package com.smartorder.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartorder.userservice.dto.UserResponse;
+import com.smartorder.userservice.model.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+
+@State(Scope.Benchmark)
+public class UserJsonBenchmark {
+    private ObjectMapper objectMapper;
+    private UserResponse userResponse;
+    private User user;
+
+    @Setup
+    public void setUp() {
+        // Same defaults Spring Boot applies to the MVC ObjectMapper.
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        LocalDateTime now = LocalDateTime.now();
+        userResponse = UserResponse.builder()
+                .id(42L)
+                .name("John Doe")
+                .email("john.doe@example.com")
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+        user = User.builder()
+                .id(42L)
+                .name("John Doe")
+                .email("john.doe@example.com")
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
+    @Benchmark
+    public byte[] serializeUserResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(userResponse);
+    }
+
+    @Benchmark
+    public byte[] serializeUserEntity() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(user);
+    }
+}
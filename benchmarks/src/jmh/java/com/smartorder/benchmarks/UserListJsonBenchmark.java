@@ -0,0 +1,101 @@
+package com.smartorder.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.smartorder.userservice.config.WebConfig;
+import com.smartorder.userservice.dto.UserResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Serializes a 10k-user page the way each variant of the API would:
+ * <ul>
+ *     <li>{@code bean}: the former Lombok bean with reflective access and ISO timestamps</li>
+ *     <li>{@code record}: the record with reflective access</li>
+ *     <li>{@code blackbird}: the record through Blackbird's generated accessors, as served for application/json</li>
+ *     <li>{@code compact}: Blackbird plus epoch-millis timestamps, as served for the compact media type</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+public class UserListJsonBenchmark {
+    private static final int USERS = 10_000;
+
+    @Param({"bean", "record", "blackbird", "compact"})
+    public String mode;
+
+    private ObjectMapper objectMapper;
+    private List<?> users;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper defaults = Jackson2ObjectMapperBuilder.json().build();
+        ObjectMapper blackbird = Jackson2ObjectMapperBuilder.json().modulesToInstall(new BlackbirdModule()).build();
+        objectMapper = switch (mode) {
+            case "bean", "record" -> defaults;
+            case "blackbird" -> blackbird;
+            case "compact" -> WebConfig.compact(blackbird);
+            default -> throw new IllegalArgumentException(mode);
+        };
+
+        LocalDateTime now = LocalDateTime.now();
+        List<UserResponse> records = new ArrayList<>(USERS);
+        List<UserBean> beans = new ArrayList<>(USERS);
+        for (long id = 1; id <= USERS; id++) {
+            LocalDateTime createdAt = now.minusSeconds(id);
+            records.add(new UserResponse(id, "User " + id, "user" + id + "@example.com", createdAt, createdAt));
+            beans.add(new UserBean(id, "User " + id, "user" + id + "@example.com", createdAt, createdAt));
+        }
+        users = mode.equals("bean") ? beans : records;
+    }
+
+    @Benchmark
+    public byte[] serializeUserList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(users);
+    }
+
+    /** Shape of UserResponse before it became a record. */
+    public static class UserBean {
+        private final Long id;
+        private final String name;
+        private final String email;
+        private final LocalDateTime createdAt;
+        private final LocalDateTime updatedAt;
+
+        UserBean(Long id, String name, String email, LocalDateTime createdAt, LocalDateTime updatedAt) {
+            this.id = id;
+            this.name = name;
+            this.email = email;
+            this.createdAt = createdAt;
+            this.updatedAt = updatedAt;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getEmail() {
+            return email;
+        }
+
+        public LocalDateTime getCreatedAt() {
+            return createdAt;
+        }
+
+        public LocalDateTime getUpdatedAt() {
+            return updatedAt;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.smartorder.benchmarks;
+
+import com.smartorder.userservice.dto.CreateUserRequest;
+import com.smartorder.userservice.dto.UserPage;
+import com.smartorder.userservice.dto.UserResponse;
+import com.smartorder.userservice.service.UserService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+@State(Scope.Benchmark)
+public class UserServiceBenchmark {
+    private static final int SEEDED_USERS = 1_000;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private ConfigurableApplicationContext context;
+    private UserService userService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = UserServiceContext.start();
+        userService = context.getBean(UserService.class);
+        for (int i = 0; i < SEEDED_USERS; i++) {
+            userService.createUser(nextRequest());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public UserResponse createUser() {
+        return userService.createUser(nextRequest());
+    }
+
+    @Benchmark
+    public UserPage getUsersFirstPage() {
+        return userService.getUsers(null, null);
+    }
+
+    private CreateUserRequest nextRequest() {
+        long n = sequence.incrementAndGet();
+        return new CreateUserRequest("Bench User " + n, "bench-" + n + "@example.com");
+    }
+}
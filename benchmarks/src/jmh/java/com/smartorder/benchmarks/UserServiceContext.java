@@ -0,0 +1,61 @@
+package com.smartorder.benchmarks;
+
+import com.smartorder.userservice.UserServiceApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+final class UserServiceContext {
+
+    /** Keeps a benchmark context off the H2 console and the outbox event file. */
+    static final List<String> ISOLATED = List.of(
+            "spring.h2.console.enabled=false",
+            "smartorder.outbox.sink=memory",
+            "smartorder.outbox.relay.enabled=false");
+
+    /** application.yml echoes every statement and logs at INFO; that stdout I/O would dominate the measured paths. */
+    static final List<String> QUIET = List.of(
+            "spring.jpa.show-sql=false",
+            "logging.level.root=WARN");
+
+    private UserServiceContext() {
+    }
+
+    /**
+     * Boots user-service without a web server against a private in-memory H2 database,
+     * with Liquibase creating the schema exactly as in a real deployment.
+     */
+    static ConfigurableApplicationContext start(String... profiles) {
+        return start(List.of(inMemoryDatabase()), profiles);
+    }
+
+    /**
+     * Like {@link #start(String...)}, but the datastore comes from the profiles and {@code overrides}.
+     */
+    static ConfigurableApplicationContext start(List<String> overrides, String... profiles) {
+        List<String> properties = new ArrayList<>(ISOLATED);
+        properties.addAll(QUIET);
+        properties.addAll(overrides);
+        return run(properties, profiles);
+    }
+
+    /**
+     * Boots with exactly {@code properties}, for benchmarks that measure the profiles' own logging and
+     * SQL settings. Everything is passed as command-line arguments: builder properties are only defaults
+     * and lose to the same keys in application.yml and the profile files.
+     */
+    static ConfigurableApplicationContext run(List<String> properties, String... profiles) {
+        return new SpringApplicationBuilder(UserServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles(profiles)
+                .run(properties.stream().map(property -> "--" + property).toArray(String[]::new));
+    }
+
+    static String inMemoryDatabase() {
+        return "spring.datasource.url=jdbc:h2:mem:bench-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+    }
+}
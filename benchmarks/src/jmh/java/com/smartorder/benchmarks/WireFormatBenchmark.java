@@ -0,0 +1,67 @@
+package com.smartorder.benchmarks;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.smartorder.userservice.dto.UserResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JSON against CBOR for a page of users, built the way the services build their converters.
+ * Payload sizes are logged once per trial, ahead of that trial's iterations.
+ */
+@State(Scope.Benchmark)
+public class WireFormatBenchmark {
+    private static final Logger log = LoggerFactory.getLogger(WireFormatBenchmark.class);
+    private static final TypeReference<List<UserResponse>> USER_LIST = new TypeReference<>() {
+    };
+
+    @Param({"json", "cbor"})
+    public String format;
+
+    @Param({"1", "1000"})
+    public int users;
+
+    private ObjectMapper objectMapper;
+    private List<UserResponse> page;
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json().modulesToInstall(new BlackbirdModule());
+        objectMapper = format.equals("cbor") ? builder.factory(new CBORFactory()).build() : builder.build();
+
+        LocalDateTime now = LocalDateTime.now();
+        page = new ArrayList<>(users);
+        for (long id = 1; id <= users; id++) {
+            page.add(new UserResponse(id, "User " + id, "user" + id + "@example.com", now.minusSeconds(id), now));
+        }
+        encoded = objectMapper.writeValueAsBytes(page);
+        log.info("{}, {} users: {} bytes ({} per user)",
+                format, users, encoded.length, String.format("%.1f", (double) encoded.length / users));
+    }
+
+    @Benchmark
+    public byte[] write() throws IOException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public List<UserResponse> read() throws IOException {
+        return objectMapper.readValue(encoded, USER_LIST);
+    }
+}
@@ -1,10 +1,21 @@
-import org.gradle.api.JavaVersion
 import org.gradle.api.plugins.JavaPluginExtension
+import org.gradle.jvm.toolchain.JavaLanguageVersion
+import org.gradle.jvm.toolchain.JavaToolchainService
+import org.gradle.process.CommandLineArgumentProvider
+import org.springframework.boot.gradle.tasks.bundling.BootJar
+import java.net.ServerSocket
+import java.net.URI
+import java.net.http.HttpClient
+import java.net.http.HttpRequest
+import java.net.http.HttpResponse
+import java.time.Duration
 
 plugins {
     id("java")
     id("org.springframework.boot") version "3.5.3" apply false
     id("io.spring.dependency-management") version "1.1.7" apply false
+    id("me.champeau.jmh") version "0.7.3" apply false
+    id("io.gatling.gradle") version "3.13.1" apply false
 }
 
 allprojects {
@@ -20,8 +31,9 @@ subprojects {
     apply(plugin = "java")
 
     configure<JavaPluginExtension> {
-        sourceCompatibility = JavaVersion.VERSION_17
-        targetCompatibility = JavaVersion.VERSION_17
+        toolchain {
+            languageVersion.set(JavaLanguageVersion.of(21))
+        }
     }
     dependencies {
         implementation("jakarta.validation:jakarta.validation-api")
@@ -32,4 +44,130 @@ subprojects {
         testCompileOnly("org.projectlombok:lombok")
         testAnnotationProcessor("org.projectlombok:lombok")
     }
+
+    // Startup tooling for every Spring Boot service:
+    //   -Paot              Spring AOT processing of the boot jar; run it with -Dspring.aot.enabled=true
+    //   cdsArchive         AppCDS archive from a training run of the extracted boot jar
+    //   measureStartup     time to first served request per startup variant
+    plugins.withId("org.springframework.boot") {
+        val aot = providers.gradleProperty("aot").isPresent
+        if (aot) {
+            apply(plugin = "org.springframework.boot.aot")
+        }
+
+        val java = extensions.getByType<JavaToolchainService>()
+            .launcherFor { languageVersion.set(JavaLanguageVersion.of(21)) }
+            .map { it.executablePath.asFile.absolutePath }
+        val bootJar = tasks.named<BootJar>("bootJar")
+        val cdsDir = layout.buildDirectory.dir("cds")
+        val applicationDir = cdsDir.map { it.dir("application") }
+        val applicationJar = applicationDir.zip(bootJar.flatMap { it.archiveFileName }) { dir, name -> dir.file(name) }
+        val cdsArchiveFile = cdsDir.map { it.file("application.jsa") }
+
+        val extractBootJar = tasks.register<Exec>("extractBootJar") {
+            description = "Unpacks the boot jar into the launcher-free layout that CDS needs."
+            inputs.file(bootJar.flatMap { it.archiveFile })
+            outputs.dir(applicationDir)
+            doFirst {
+                delete(applicationDir)
+                executable = java.get()
+            }
+            argumentProviders.add(CommandLineArgumentProvider {
+                listOf("-Djarmode=tools", "-jar", bootJar.get().archiveFile.get().asFile.absolutePath,
+                    "extract", "--destination", applicationDir.get().asFile.absolutePath)
+            })
+        }
+
+        tasks.register<Exec>("cdsArchive") {
+            group = "build"
+            description = "Boots the extracted jar until the context is refreshed and dumps the loaded classes."
+            dependsOn(extractBootJar)
+            inputs.dir(applicationDir)
+            outputs.file(cdsArchiveFile)
+            val trainingDir = cdsDir.map { it.dir("training") }
+            workingDir(trainingDir)
+            doFirst {
+                // Scratch working directory, so the training run's H2 files don't land in the project.
+                delete(trainingDir)
+                trainingDir.get().asFile.mkdirs()
+                executable = java.get()
+            }
+            argumentProviders.add(CommandLineArgumentProvider {
+                listOf("-XX:ArchiveClassesAtExit=" + cdsArchiveFile.get().asFile.absolutePath,
+                    "-Dspring.context.exit=onRefresh",
+                    "-jar", applicationJar.get().asFile.absolutePath)
+            })
+        }
+
+        tasks.register("measureStartup") {
+            group = "verification"
+            description = "Boots each startup variant and reports the time until the first request is served."
+            dependsOn("cdsArchive")
+            doLast {
+                val probePath = if (project.extra.has("startupProbePath")) project.extra["startupProbePath"] as String
+                    else "/actuator/health"
+                val runs = providers.gradleProperty("startupRuns").getOrElse("5").toInt()
+                val cds = "-XX:SharedArchiveFile=" + cdsArchiveFile.get().asFile.absolutePath
+                val fastStart = "--spring.profiles.active=fast-start"
+                val variants = linkedMapOf(
+                    "baseline" to (listOf<String>() to listOf<String>()),
+                    "fast-start" to (listOf<String>() to listOf(fastStart)),
+                    "cds" to (listOf(cds) to listOf<String>()),
+                    "cds + fast-start" to (listOf(cds) to listOf(fastStart)))
+                if (aot) {
+                    variants["aot + cds"] = listOf(cds, "-Dspring.aot.enabled=true") to listOf<String>()
+                    variants["aot + cds + fast-start"] = listOf(cds, "-Dspring.aot.enabled=true") to listOf(fastStart)
+                }
+
+                // One database for all runs: a warm-up boot migrates it, as on any restart after the first deploy.
+                val workDir = cdsDir.get().dir("measure").asFile
+                delete(workDir)
+                workDir.mkdirs()
+                timeToFirstResponse(java.get(), workDir, applicationJar.get().asFile, listOf(), listOf(), probePath)
+
+                val report = StringBuilder("${project.name}: median time to first response of $probePath over $runs runs\n")
+                for ((name, options) in variants) {
+                    val millis = (1..runs).map {
+                        timeToFirstResponse(java.get(), workDir, applicationJar.get().asFile, options.first, options.second, probePath)
+                    }.sorted()
+                    report.append(String.format("  %-24s %6d ms  (min %d, max %d)%n", name, millis[millis.size / 2], millis.first(), millis.last()))
+                }
+                val reportFile = layout.buildDirectory.file("reports/startup.txt").get().asFile
+                reportFile.parentFile.mkdirs()
+                reportFile.writeText(report.toString())
+                logger.lifecycle(report.toString())
+            }
+        }
+    }
+}
+
+/** Starts the jar on a free port, polls [probePath] until it answers below 500 and returns the elapsed milliseconds. */
+fun timeToFirstResponse(java: String, workDir: File, jar: File, jvmArgs: List<String>, appArgs: List<String>,
+                        probePath: String): Long {
+    val port = ServerSocket(0).use { it.localPort }
+    val command = listOf(java) + jvmArgs + listOf("-jar", jar.absolutePath, "--server.port=$port") + appArgs
+    val client = HttpClient.newHttpClient()
+    val probe = HttpRequest.newBuilder(URI.create("http://localhost:$port$probePath")).build()
+    val started = System.nanoTime()
+    val process = ProcessBuilder(command)
+        .directory(workDir)
+        .redirectErrorStream(true)
+        .redirectOutput(File(workDir, "service.log"))
+        .start()
+    try {
+        while (true) {
+            val status = runCatching { client.send(probe, HttpResponse.BodyHandlers.discarding()).statusCode() }
+                .getOrDefault(0)
+            if (status in 1..499) {
+                return Duration.ofNanos(System.nanoTime() - started).toMillis()
+            }
+            if (!process.isAlive || System.nanoTime() - started > Duration.ofMinutes(2).toNanos()) {
+                throw GradleException("${jar.name} did not answer $probePath; see ${File(workDir, "service.log")}")
+            }
+            Thread.sleep(10)
+        }
+    } finally {
+        process.destroy()
+        process.waitFor()
+    }
 }
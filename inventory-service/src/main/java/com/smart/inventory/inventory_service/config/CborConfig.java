@@ -0,0 +1,20 @@
+package com.smart.inventory.inventory_service.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Serves and accepts {@code application/cbor} for service-to-service calls. Built from Spring Boot's
+ * Jackson builder so it shares the JSON mapper's modules and settings; replaces the plain default
+ * CBOR converter in place.
+ */
+@Configuration
+public class CborConfig {
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.createXmlMapper(false).factory(new CBORFactory()).build());
+    }
+}
@@ -0,0 +1,25 @@
+package com.smart.inventory.inventory_service.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+
+@Data
+@ConfigurationProperties(prefix = "smartorder.inventory")
+public class InventoryProperties {
+    private Duration reservationTtl = Duration.ofMinutes(5);
+    private Duration expiryInterval = Duration.ofSeconds(1);
+    private Duration flushInterval = Duration.ofMillis(200);
+    private Duration reconcileInterval = Duration.ofSeconds(30);
+    private final Sharding sharding = new Sharding();
+
+    @Data
+    public static class Sharding {
+        /** SKUs whose stock is split across in-memory slots; all others use a single counter. */
+        private Set<String> skus = new HashSet<>();
+        private int shards = 8;
+    }
+}
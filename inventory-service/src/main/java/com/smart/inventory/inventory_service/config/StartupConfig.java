@@ -0,0 +1,21 @@
+package com.smart.inventory.inventory_service.config;
+
+import com.smart.inventory.inventory_service.service.InventoryService;
+import com.smart.inventory.inventory_service.service.StockSynchronizer;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Keeps background work eager under the {@code fast-start} profile's lazy initialization. The filter is
+ * registered with and without the profile, so the bean definitions stay the same, as AOT processing requires.
+ */
+@Configuration
+public class StartupConfig {
+
+    /** Stock must be loaded and the expiry and flush schedules running before the first request. */
+    @Bean
+    static LazyInitializationExcludeFilter eagerBackgroundWork() {
+        return LazyInitializationExcludeFilter.forBeanTypes(InventoryService.class, StockSynchronizer.class);
+    }
+}
@@ -0,0 +1,49 @@
+package com.smart.inventory.inventory_service.controller;
+
+import com.smart.inventory.inventory_service.dto.ReservationResponse;
+import com.smart.inventory.inventory_service.dto.ReserveStockRequest;
+import com.smart.inventory.inventory_service.dto.RestockRequest;
+import com.smart.inventory.inventory_service.dto.StockResponse;
+import com.smart.inventory.inventory_service.service.InventoryService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/inventory")
+public class InventoryController {
+    private final InventoryService inventoryService;
+
+    @GetMapping("/{sku}")
+    public StockResponse getStock(@PathVariable String sku) {
+        return inventoryService.getStock(sku);
+    }
+
+    @PostMapping("/{sku}/restock")
+    public StockResponse restock(@PathVariable String sku, @Valid @RequestBody RestockRequest restockRequest) {
+        return inventoryService.restock(sku, restockRequest.getQuantity());
+    }
+
+    @PostMapping("/reservations")
+    public ResponseEntity<ReservationResponse> reserve(@Valid @RequestBody ReserveStockRequest reserveRequest) {
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(inventoryService.reserve(reserveRequest.getSku(), reserveRequest.getQuantity()));
+    }
+
+    @PostMapping("/reservations/{id}/commit")
+    public ResponseEntity<Void> commit(@PathVariable UUID id) {
+        inventoryService.commit(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    @DeleteMapping("/reservations/{id}")
+    public ResponseEntity<Void> release(@PathVariable UUID id) {
+        inventoryService.release(id);
+        return ResponseEntity.noContent().build();
+    }
+}
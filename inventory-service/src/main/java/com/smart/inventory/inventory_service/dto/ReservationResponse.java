@@ -0,0 +1,28 @@
+package com.smart.inventory.inventory_service.dto;
+
+import com.smart.inventory.inventory_service.model.Reservation;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Data
+@Builder
+@AllArgsConstructor
+public class ReservationResponse {
+    private UUID id;
+    private String sku;
+    private long quantity;
+    private Instant expiresAt;
+
+    public static ReservationResponse from(Reservation reservation) {
+        return ReservationResponse.builder()
+                .id(reservation.getId())
+                .sku(reservation.getSku())
+                .quantity(reservation.getQuantity())
+                .expiresAt(reservation.getExpiresAt())
+                .build();
+    }
+}
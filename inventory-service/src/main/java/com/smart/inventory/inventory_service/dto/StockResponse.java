@@ -0,0 +1,23 @@
+package com.smart.inventory.inventory_service.dto;
+
+import com.smart.inventory.inventory_service.model.StockCounter;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+@AllArgsConstructor
+public class StockResponse {
+    private String sku;
+    private long available;
+    private long reserved;
+
+    public static StockResponse from(String sku, StockCounter counter) {
+        return StockResponse.builder()
+                .sku(sku)
+                .available(counter.available())
+                .reserved(counter.reserved())
+                .build();
+    }
+}
@@ -0,0 +1,83 @@
+package com.smart.inventory.inventory_service.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.web.ErrorResponseException;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+
+import java.net.URI;
+
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    public ProblemDetail handleMethodArgumentNotValidException(MethodArgumentNotValidException ex) {
+        ProblemDetail problemDetail = ProblemDetail.forStatus(HttpStatus.BAD_REQUEST);
+        problemDetail.setTitle("Validation Error");
+        problemDetail.setDetail(ex.getBindingResult().getFieldErrors().stream()
+                .map(err -> err.getField() + ":" + err.getDefaultMessage())
+                .reduce((a, b) -> a + ", " + b)
+                .orElse("Invalid input"));
+        problemDetail.setType(URI.create("https://smartorder.com/errors/validation"));
+        return problemDetail;
+    }
+
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ProblemDetail handleJsonParse(HttpMessageNotReadableException ex) {
+        ProblemDetail problemDetail = ProblemDetail.forStatus(HttpStatus.BAD_REQUEST);
+        problemDetail.setTitle("Malformed JSON request");
+        problemDetail.setDetail("Your request body was unreadable or invalid.");
+        return problemDetail;
+    }
+
+    @ExceptionHandler(ErrorResponseException.class)
+    public ProblemDetail handleKnownErrors(ErrorResponseException ex) {
+        return ex.getBody();
+    }
+
+    @ExceptionHandler(InsufficientStockException.class)
+    public ProblemDetail handleInsufficientStock(InsufficientStockException ex) {
+        ProblemDetail problemDetails = ProblemDetail.forStatus(HttpStatus.CONFLICT);
+        problemDetails.setTitle("Insufficient stock");
+        problemDetails.setDetail(ex.getMessage());
+        problemDetails.setType(URI.create("https://smartorder.com/errors/insufficient-stock"));
+        return problemDetails;
+    }
+
+    @ExceptionHandler(StockNotFoundException.class)
+    public ProblemDetail handleStockNotFound(StockNotFoundException ex) {
+        ProblemDetail problemDetails = ProblemDetail.forStatus(HttpStatus.NOT_FOUND);
+        problemDetails.setTitle("Stock not found");
+        problemDetails.setDetail(ex.getMessage());
+        problemDetails.setType(URI.create("https://smartorder.com/errors/stock-not-found"));
+        return problemDetails;
+    }
+
+    @ExceptionHandler(ReservationNotFoundException.class)
+    public ProblemDetail handleReservationNotFound(ReservationNotFoundException ex) {
+        ProblemDetail problemDetails = ProblemDetail.forStatus(HttpStatus.NOT_FOUND);
+        problemDetails.setTitle("Reservation not found");
+        problemDetails.setDetail(ex.getMessage());
+        problemDetails.setType(URI.create("https://smartorder.com/errors/reservation-not-found"));
+        return problemDetails;
+    }
+
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ProblemDetail handleArgumentTypeMismatch(MethodArgumentTypeMismatchException ex) {
+        ProblemDetail problemDetails = ProblemDetail.forStatus(HttpStatus.BAD_REQUEST);
+        problemDetails.setTitle("Invalid parameter");
+        problemDetails.setDetail("Parameter '" + ex.getName() + "' has an invalid value.");
+        return problemDetails;
+    }
+
+    @ExceptionHandler(Exception.class)
+    public ProblemDetail handleUnknown(Exception ex) {
+        ProblemDetail problemDetails = ProblemDetail.forStatus(HttpStatus.INTERNAL_SERVER_ERROR);
+        problemDetails.setTitle("Internal Server Error");
+        problemDetails.setDetail("Something went wrong.");
+        return problemDetails;
+    }
+}
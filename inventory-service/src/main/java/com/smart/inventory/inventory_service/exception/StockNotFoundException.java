@@ -0,0 +1,7 @@
+package com.smart.inventory.inventory_service.exception;
+
+public class StockNotFoundException extends RuntimeException {
+    public StockNotFoundException(String message) {
+        super(message);
+    }
+}
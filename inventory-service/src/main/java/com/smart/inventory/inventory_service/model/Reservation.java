@@ -0,0 +1,16 @@
+package com.smart.inventory.inventory_service.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Value
+@Builder
+public class Reservation {
+    UUID id;
+    String sku;
+    long quantity;
+    Instant expiresAt;
+}
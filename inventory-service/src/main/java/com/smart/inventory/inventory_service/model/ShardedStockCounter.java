@@ -0,0 +1,144 @@
+package com.smart.inventory.inventory_service.model;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Splits a hot SKU's available units across independent slots so concurrent reservations
+ * CAS on different cache lines. A reservation starts at a random slot and falls back to its
+ * siblings; if no single slot can cover it, units are gathered across slots. Gathers run one
+ * at a time, so two of them can never each hold part of the stock and both fail.
+ */
+public class ShardedStockCounter implements StockCounter {
+    /** Slots sit 16 longs (128 bytes) apart so neighbouring shards never share a cache line. */
+    private static final int STRIDE = 16;
+
+    private final int shards;
+    private final AtomicLongArray slots;
+    private final LongAdder reserved = new LongAdder();
+    private final ReentrantLock gatherLock = new ReentrantLock();
+
+    public ShardedStockCounter(int shards, long available, long reserved) {
+        if (shards <= 0) {
+            throw new IllegalArgumentException("Shard count must be positive: " + shards);
+        }
+        this.shards = shards;
+        this.slots = new AtomicLongArray(shards * STRIDE);
+        this.reserved.add(reserved);
+        restock(available);
+    }
+
+    @Override
+    public boolean tryReserve(long quantity) {
+        int start = ThreadLocalRandom.current().nextInt(shards);
+        for (int i = 0; i < shards; i++) {
+            if (tryTake(slot((start + i) % shards), quantity)) {
+                reserved.add(quantity);
+                return true;
+            }
+        }
+        return gather(start, quantity);
+    }
+
+    @Override
+    public void commit(long quantity) {
+        reserved.add(-quantity);
+    }
+
+    @Override
+    public void release(long quantity) {
+        reserved.add(-quantity);
+        slots.addAndGet(slot(ThreadLocalRandom.current().nextInt(shards)), quantity);
+    }
+
+    @Override
+    public void restock(long quantity) {
+        long share = quantity / shards;
+        long remainder = quantity % shards;
+        for (int shard = 0; shard < shards; shard++) {
+            long units = share + (shard < remainder ? 1 : 0);
+            if (units > 0) {
+                slots.addAndGet(slot(shard), units);
+            }
+        }
+    }
+
+    /** Sum of all slots; not an atomic snapshot while reservations are in flight. */
+    @Override
+    public long available() {
+        long total = 0;
+        for (int shard = 0; shard < shards; shard++) {
+            total += slots.get(slot(shard));
+        }
+        return total;
+    }
+
+    @Override
+    public long reserved() {
+        return reserved.sum();
+    }
+
+    private boolean tryTake(int slot, long quantity) {
+        long current;
+        do {
+            current = slots.get(slot);
+            if (current < quantity) {
+                return false;
+            }
+        } while (!slots.compareAndSet(slot, current, current - quantity));
+        return true;
+    }
+
+    private long takeUpTo(int slot, long quantity) {
+        long current;
+        long taken;
+        do {
+            current = slots.get(slot);
+            if (current == 0) {
+                return 0;
+            }
+            taken = Math.min(current, quantity);
+        } while (!slots.compareAndSet(slot, current, current - taken));
+        return taken;
+    }
+
+    /**
+     * Takes units slot by slot and puts them back if the total falls short. The fast path only ever
+     * takes a whole reservation from one slot, so while the lock is held no other thread holds a
+     * partial take, and a failure here means the stock really was short.
+     */
+    private boolean gather(int start, long quantity) {
+        gatherLock.lock();
+        try {
+            return gatherLocked(start, quantity);
+        } finally {
+            gatherLock.unlock();
+        }
+    }
+
+    private boolean gatherLocked(int start, long quantity) {
+        long[] taken = new long[shards];
+        long remaining = quantity;
+        for (int i = 0; i < shards && remaining > 0; i++) {
+            int shard = (start + i) % shards;
+            taken[shard] = takeUpTo(slot(shard), remaining);
+            remaining -= taken[shard];
+        }
+        if (remaining == 0) {
+            reserved.add(quantity);
+            return true;
+        }
+        for (int shard = 0; shard < shards; shard++) {
+            if (taken[shard] > 0) {
+                slots.addAndGet(slot(shard), taken[shard]);
+            }
+        }
+        return false;
+    }
+
+    private static int slot(int shard) {
+        return shard * STRIDE;
+    }
+}
@@ -0,0 +1,56 @@
+package com.smart.inventory.inventory_service.model;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free stock counter for one SKU. {@code available} only moves down through a CAS
+ * that refuses to go below zero, so concurrent reservations can never oversell.
+ */
+public class SingleStockCounter implements StockCounter {
+    private final AtomicLong available;
+    private final AtomicLong reserved;
+
+    public SingleStockCounter(long available, long reserved) {
+        this.available = new AtomicLong(available);
+        this.reserved = new AtomicLong(reserved);
+    }
+
+    @Override
+    public boolean tryReserve(long quantity) {
+        long current;
+        do {
+            current = available.get();
+            if (current < quantity) {
+                return false;
+            }
+        } while (!available.compareAndSet(current, current - quantity));
+        reserved.addAndGet(quantity);
+        return true;
+    }
+
+    @Override
+    public void commit(long quantity) {
+        reserved.addAndGet(-quantity);
+    }
+
+    @Override
+    public void release(long quantity) {
+        reserved.addAndGet(-quantity);
+        available.addAndGet(quantity);
+    }
+
+    @Override
+    public void restock(long quantity) {
+        available.addAndGet(quantity);
+    }
+
+    @Override
+    public long available() {
+        return available.get();
+    }
+
+    @Override
+    public long reserved() {
+        return reserved.get();
+    }
+}
@@ -0,0 +1,19 @@
+package com.smart.inventory.inventory_service.model;
+
+public interface StockCounter {
+
+    /** Moves {@code quantity} units from available to reserved, or returns {@code false} if there are not enough. */
+    boolean tryReserve(long quantity);
+
+    /** The reserved units leave the stock for good. */
+    void commit(long quantity);
+
+    /** The reserved units go back on sale. */
+    void release(long quantity);
+
+    void restock(long quantity);
+
+    long available();
+
+    long reserved();
+}
@@ -0,0 +1,10 @@
+package com.smart.inventory.inventory_service.model;
+
+import lombok.Value;
+
+@Value
+public class StockSnapshot {
+    String sku;
+    long available;
+    long reserved;
+}
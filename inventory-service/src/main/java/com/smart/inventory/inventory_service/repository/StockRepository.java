@@ -0,0 +1,35 @@
+package com.smart.inventory.inventory_service.repository;
+
+import com.smart.inventory.inventory_service.model.StockSnapshot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class StockRepository {
+    private static final String SELECT_ALL = "SELECT sku, available, reserved FROM inventory_stock";
+    private static final String UPSERT =
+            "MERGE INTO inventory_stock (sku, available, reserved, updated_at) KEY (sku) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<StockSnapshot> findAll() {
+        return jdbcTemplate.query(SELECT_ALL, (rs, rowNum) ->
+                new StockSnapshot(rs.getString("sku"), rs.getLong("available"), rs.getLong("reserved")));
+    }
+
+    public void saveAll(List<StockSnapshot> stock) {
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.batchUpdate(UPSERT, stock, stock.size(), (ps, snapshot) -> {
+            ps.setString(1, snapshot.getSku());
+            ps.setLong(2, snapshot.getAvailable());
+            ps.setLong(3, snapshot.getReserved());
+            ps.setTimestamp(4, now);
+        });
+    }
+}
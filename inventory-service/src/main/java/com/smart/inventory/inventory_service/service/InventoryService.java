@@ -0,0 +1,97 @@
+package com.smart.inventory.inventory_service.service;
+
+import com.smart.inventory.inventory_service.config.InventoryProperties;
+import com.smart.inventory.inventory_service.dto.ReservationResponse;
+import com.smart.inventory.inventory_service.dto.StockResponse;
+import com.smart.inventory.inventory_service.exception.InsufficientStockException;
+import com.smart.inventory.inventory_service.exception.ReservationNotFoundException;
+import com.smart.inventory.inventory_service.exception.StockNotFoundException;
+import com.smart.inventory.inventory_service.model.Reservation;
+import com.smart.inventory.inventory_service.model.StockCounter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class InventoryService {
+    private final StockLedger stockLedger;
+    private final InventoryProperties inventoryProperties;
+    private final ConcurrentMap<UUID, Reservation> reservations = new ConcurrentHashMap<>();
+
+    public StockResponse getStock(String sku) {
+        StockCounter counter = stockLedger.find(sku)
+                .orElseThrow(() -> new StockNotFoundException("No stock for SKU " + sku));
+        return StockResponse.from(sku, counter);
+    }
+
+    public StockResponse restock(String sku, long quantity) {
+        StockCounter counter = stockLedger.getOrCreate(sku);
+        counter.restock(quantity);
+        stockLedger.markDirty(sku);
+        return StockResponse.from(sku, counter);
+    }
+
+    public ReservationResponse reserve(String sku, long quantity) {
+        StockCounter counter = stockLedger.find(sku)
+                .orElseThrow(() -> new StockNotFoundException("No stock for SKU " + sku));
+        if (!counter.tryReserve(quantity)) {
+            throw new InsufficientStockException("Not enough stock for SKU " + sku);
+        }
+        stockLedger.markDirty(sku);
+        Reservation reservation = Reservation.builder()
+                .id(UUID.randomUUID())
+                .sku(sku)
+                .quantity(quantity)
+                .expiresAt(Instant.now().plus(inventoryProperties.getReservationTtl()))
+                .build();
+        reservations.put(reservation.getId(), reservation);
+        return ReservationResponse.from(reservation);
+    }
+
+    public void commit(UUID reservationId) {
+        Reservation reservation = claim(reservationId);
+        stockLedger.getOrCreate(reservation.getSku()).commit(reservation.getQuantity());
+        stockLedger.markDirty(reservation.getSku());
+    }
+
+    public void release(UUID reservationId) {
+        release(claim(reservationId));
+    }
+
+    @Scheduled(fixedDelayString = "${smartorder.inventory.expiry-interval:1s}")
+    public void expireReservations() {
+        Instant now = Instant.now();
+        int expired = 0;
+        for (Reservation reservation : reservations.values()) {
+            // remove(key, value) succeeds at most once, racing commit()/release() included
+            if (reservation.getExpiresAt().isBefore(now) && reservations.remove(reservation.getId(), reservation)) {
+                release(reservation);
+                expired++;
+            }
+        }
+        if (expired > 0) {
+            log.debug("Released {} expired reservations", expired);
+        }
+    }
+
+    private Reservation claim(UUID reservationId) {
+        Reservation reservation = reservations.remove(reservationId);
+        if (reservation == null) {
+            throw new ReservationNotFoundException("No active reservation with id " + reservationId);
+        }
+        return reservation;
+    }
+
+    private void release(Reservation reservation) {
+        stockLedger.getOrCreate(reservation.getSku()).release(reservation.getQuantity());
+        stockLedger.markDirty(reservation.getSku());
+    }
+}
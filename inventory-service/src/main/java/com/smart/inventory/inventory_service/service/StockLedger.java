@@ -0,0 +1,83 @@
+package com.smart.inventory.inventory_service.service;
+
+import com.smart.inventory.inventory_service.config.InventoryProperties;
+import com.smart.inventory.inventory_service.model.ShardedStockCounter;
+import com.smart.inventory.inventory_service.model.SingleStockCounter;
+import com.smart.inventory.inventory_service.model.StockCounter;
+import com.smart.inventory.inventory_service.model.StockSnapshot;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * In-memory source of truth for stock levels, plus the set of SKUs changed since the last flush.
+ */
+@Component
+public class StockLedger {
+    private final ConcurrentMap<String, StockCounter> counters = new ConcurrentHashMap<>();
+    private final Set<String> dirty = ConcurrentHashMap.newKeySet();
+    private final InventoryProperties.Sharding sharding;
+
+    public StockLedger(InventoryProperties inventoryProperties) {
+        this.sharding = inventoryProperties.getSharding();
+    }
+
+    public Optional<StockCounter> find(String sku) {
+        return Optional.ofNullable(counters.get(sku));
+    }
+
+    public StockCounter getOrCreate(String sku) {
+        return counters.computeIfAbsent(sku, key -> newCounter(key, 0, 0));
+    }
+
+    public void load(StockSnapshot snapshot) {
+        String sku = snapshot.getSku();
+        counters.putIfAbsent(sku, newCounter(sku, snapshot.getAvailable(), snapshot.getReserved()));
+    }
+
+    public void markDirty(String sku) {
+        dirty.add(sku);
+    }
+
+    public boolean isDirty(String sku) {
+        return dirty.contains(sku);
+    }
+
+    /**
+     * Removes every dirty SKU and returns its current values. A SKU is unmarked before it is
+     * read, so a change racing with the snapshot marks it dirty again for the next flush.
+     */
+    public List<StockSnapshot> drainDirty() {
+        List<StockSnapshot> snapshots = new ArrayList<>();
+        for (Iterator<String> it = dirty.iterator(); it.hasNext(); ) {
+            String sku = it.next();
+            it.remove();
+            snapshots.add(snapshot(sku));
+        }
+        return snapshots;
+    }
+
+    public List<StockSnapshot> snapshotAll() {
+        List<StockSnapshot> snapshots = new ArrayList<>(counters.size());
+        counters.keySet().forEach(sku -> snapshots.add(snapshot(sku)));
+        return snapshots;
+    }
+
+    private StockSnapshot snapshot(String sku) {
+        StockCounter counter = counters.get(sku);
+        return new StockSnapshot(sku, counter.available(), counter.reserved());
+    }
+
+    private StockCounter newCounter(String sku, long available, long reserved) {
+        if (sharding.getSkus().contains(sku)) {
+            return new ShardedStockCounter(sharding.getShards(), available, reserved);
+        }
+        return new SingleStockCounter(available, reserved);
+    }
+}
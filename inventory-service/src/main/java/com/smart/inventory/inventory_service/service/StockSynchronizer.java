@@ -0,0 +1,83 @@
+package com.smart.inventory.inventory_service.service;
+
+import com.smart.inventory.inventory_service.model.StockSnapshot;
+import com.smart.inventory.inventory_service.repository.StockRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Write-behind persistence for the {@link StockLedger}: dirty SKUs are merged into
+ * inventory_stock in batches, and a slower reconciliation pass re-flushes any row that
+ * drifted from memory (for example after a failed flush).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockSynchronizer {
+    private final StockLedger stockLedger;
+    private final StockRepository stockRepository;
+
+    /**
+     * Reservations live only in memory, so units that were reserved when the service
+     * stopped are put back on sale.
+     */
+    @PostConstruct
+    public void load() {
+        List<StockSnapshot> rows = stockRepository.findAll();
+        for (StockSnapshot row : rows) {
+            stockLedger.load(new StockSnapshot(row.getSku(), row.getAvailable() + row.getReserved(), 0));
+            if (row.getReserved() != 0) {
+                stockLedger.markDirty(row.getSku());
+            }
+        }
+        log.info("Loaded stock for {} SKUs", rows.size());
+    }
+
+    @Scheduled(fixedDelayString = "${smartorder.inventory.flush-interval:200ms}")
+    public void flush() {
+        List<StockSnapshot> changed = stockLedger.drainDirty();
+        if (changed.isEmpty()) {
+            return;
+        }
+        try {
+            stockRepository.saveAll(changed);
+        } catch (DataAccessException e) {
+            log.warn("Flushing {} SKUs failed, will retry", changed.size(), e);
+            changed.forEach(snapshot -> stockLedger.markDirty(snapshot.getSku()));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${smartorder.inventory.reconcile-interval:30s}",
+            initialDelayString = "${smartorder.inventory.reconcile-interval:30s}")
+    public void reconcile() {
+        Map<String, StockSnapshot> persisted = stockRepository.findAll().stream()
+                .collect(Collectors.toMap(StockSnapshot::getSku, Function.identity()));
+        // Picks up SKUs that were inserted into the table directly.
+        persisted.values().forEach(stockLedger::load);
+        int drifted = 0;
+        for (StockSnapshot current : stockLedger.snapshotAll()) {
+            if (!current.equals(persisted.get(current.getSku())) && !stockLedger.isDirty(current.getSku())) {
+                stockLedger.markDirty(current.getSku());
+                drifted++;
+            }
+        }
+        if (drifted > 0) {
+            log.info("Reconciliation found {} SKUs out of sync with the database", drifted);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
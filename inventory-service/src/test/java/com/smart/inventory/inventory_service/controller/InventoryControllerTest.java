@@ -0,0 +1,142 @@
+package com.smart.inventory.inventory_service.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.dataformat.cbor.CBORMapper;
+import com.smart.inventory.inventory_service.dto.ReservationResponse;
+import com.smart.inventory.inventory_service.dto.StockResponse;
+import com.smart.inventory.inventory_service.exception.InsufficientStockException;
+import com.smart.inventory.inventory_service.exception.ReservationNotFoundException;
+import com.smart.inventory.inventory_service.service.InventoryService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(InventoryController.class)
+@ActiveProfiles("test")
+@DisplayName("InventoryController Tests")
+class InventoryControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private InventoryService inventoryService;
+
+    @Test
+    @DisplayName("Should return stock levels for a SKU")
+    void shouldReturnStock() throws Exception {
+        // Given
+        when(inventoryService.getStock("SKU-1")).thenReturn(new StockResponse("SKU-1", 6, 4));
+
+        // When & Then
+        mockMvc.perform(get("/api/inventory/SKU-1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.available").value(6))
+                .andExpect(jsonPath("$.reserved").value(4));
+    }
+
+    @Test
+    @DisplayName("Should return stock levels as CBOR when asked for application/cbor")
+    void shouldReturnStockAsCbor() throws Exception {
+        // Given
+        when(inventoryService.getStock("SKU-1")).thenReturn(new StockResponse("SKU-1", 6, 4));
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/inventory/SKU-1").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn();
+
+        // Then
+        JsonNode body = new CBORMapper().readTree(result.getResponse().getContentAsByteArray());
+        assertThat(body.get("available").asLong()).isEqualTo(6);
+        assertThat(body.get("reserved").asLong()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should create reservation with 201")
+    void shouldCreateReservation() throws Exception {
+        // Given
+        UUID id = UUID.randomUUID();
+        when(inventoryService.reserve("SKU-1", 2L))
+                .thenReturn(new ReservationResponse(id, "SKU-1", 2, Instant.now()));
+
+        // When & Then
+        mockMvc.perform(post("/api/inventory/reservations")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"sku\":\"SKU-1\",\"quantity\":2}"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value(id.toString()));
+    }
+
+    @Test
+    @DisplayName("Should return 409 when stock is insufficient")
+    void shouldReturn409WhenInsufficient() throws Exception {
+        // Given
+        when(inventoryService.reserve("SKU-1", 99L)).thenThrow(new InsufficientStockException("Not enough stock for SKU SKU-1"));
+
+        // When & Then
+        mockMvc.perform(post("/api/inventory/reservations")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"sku\":\"SKU-1\",\"quantity\":99}"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.title").value("Insufficient stock"));
+    }
+
+    @Test
+    @DisplayName("Should return 400 for invalid reservation request")
+    void shouldRejectInvalidReservation() throws Exception {
+        // When & Then
+        mockMvc.perform(post("/api/inventory/reservations")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"sku\":\"\",\"quantity\":0}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should commit and release reservations with 204")
+    void shouldCommitAndRelease() throws Exception {
+        // Given
+        UUID committed = UUID.randomUUID();
+        UUID released = UUID.randomUUID();
+
+        // When & Then
+        mockMvc.perform(post("/api/inventory/reservations/" + committed + "/commit"))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(delete("/api/inventory/reservations/" + released))
+                .andExpect(status().isNoContent());
+        verify(inventoryService).commit(committed);
+        verify(inventoryService).release(released);
+    }
+
+    @Test
+    @DisplayName("Should return 404 for unknown reservation")
+    void shouldReturn404ForUnknownReservation() throws Exception {
+        // Given
+        UUID id = UUID.randomUUID();
+        doThrow(new ReservationNotFoundException("No active reservation with id " + id))
+                .when(inventoryService).commit(id);
+
+        // When & Then
+        mockMvc.perform(post("/api/inventory/reservations/" + id + "/commit"))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,114 @@
+package com.smart.inventory.inventory_service.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ShardedStockCounter Tests")
+class ShardedStockCounterTest {
+
+    @Test
+    @DisplayName("Should report the sum of all shards as available")
+    void shouldAggregateAvailability() {
+        // Given
+        ShardedStockCounter counter = new ShardedStockCounter(8, 0, 0);
+
+        // When
+        counter.restock(13);
+        counter.restock(2);
+
+        // Then
+        assertThat(counter.available()).isEqualTo(15);
+    }
+
+    @Test
+    @DisplayName("Should gather a reservation across shards when no single shard covers it")
+    void shouldGatherAcrossShards() {
+        // Given - 10 units over 4 shards is at most 3 per shard
+        ShardedStockCounter counter = new ShardedStockCounter(4, 10, 0);
+
+        // When
+        boolean reserved = counter.tryReserve(10);
+
+        // Then
+        assertThat(reserved).isTrue();
+        assertThat(counter.available()).isZero();
+        assertThat(counter.reserved()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Should leave stock untouched when the whole SKU cannot cover the reservation")
+    void shouldRestoreShardsWhenGatherFails() {
+        // Given
+        ShardedStockCounter counter = new ShardedStockCounter(4, 10, 0);
+
+        // When
+        boolean reserved = counter.tryReserve(11);
+
+        // Then
+        assertThat(reserved).isFalse();
+        assertThat(counter.available()).isEqualTo(10);
+        assertThat(counter.reserved()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should return released units and drop committed ones")
+    void shouldReleaseAndCommit() {
+        // Given
+        ShardedStockCounter counter = new ShardedStockCounter(4, 10, 0);
+        counter.tryReserve(3);
+        counter.tryReserve(2);
+
+        // When
+        counter.release(3);
+        counter.commit(2);
+
+        // Then
+        assertThat(counter.available()).isEqualTo(8);
+        assertThat(counter.reserved()).isZero();
+    }
+
+    @RepeatedTest(200)
+    @DisplayName("Should grant one of two concurrent gathers that only the whole SKU can cover")
+    void shouldNotFailBothConcurrentGathers() throws Exception {
+        // Given - 10 units over 4 shards, two requests for 6: exactly one can succeed
+        ShardedStockCounter counter = new ShardedStockCounter(4, 10, 0);
+        CyclicBarrier barrier = new CyclicBarrier(2);
+
+        // When
+        List<Boolean> results;
+        try (ExecutorService callers = Executors.newFixedThreadPool(2)) {
+            Future<Boolean> first = callers.submit(() -> {
+                barrier.await();
+                return counter.tryReserve(6);
+            });
+            Future<Boolean> second = callers.submit(() -> {
+                barrier.await();
+                return counter.tryReserve(6);
+            });
+            results = List.of(first.get(), second.get());
+        }
+
+        // Then
+        assertThat(results).containsExactlyInAnyOrder(true, false);
+        assertThat(counter.available()).isEqualTo(4);
+        assertThat(counter.reserved()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("Should reject a non-positive shard count")
+    void shouldRejectNonPositiveShards() {
+        // When / Then
+        assertThatThrownBy(() -> new ShardedStockCounter(0, 10, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,137 @@
+package com.smart.inventory.inventory_service.service;
+
+import com.smart.inventory.inventory_service.config.InventoryProperties;
+import com.smart.inventory.inventory_service.dto.ReservationResponse;
+import com.smart.inventory.inventory_service.exception.InsufficientStockException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("InventoryService Stress Tests")
+class InventoryServiceStressTest {
+    private static final String HOT_SKU = "HOT-1";
+    private static final int THREADS = 64;
+
+    private InventoryService inventoryService;
+
+    @ParameterizedTest(name = "sharded = {0}")
+    @ValueSource(booleans = {false, true})
+    @DisplayName("Should never reserve more units than are in stock")
+    void shouldNotOversellUnderContention(boolean sharded) throws InterruptedException {
+        // Given
+        inventoryService = inventoryService(sharded);
+        long stock = 10_000;
+        inventoryService.restock(HOT_SKU, stock);
+        AtomicLong reservedUnits = new AtomicLong();
+        CountDownLatch start = new CountDownLatch(1);
+
+        // When
+        try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+            for (int t = 0; t < THREADS; t++) {
+                executor.execute(() -> {
+                    await(start);
+                    while (true) {
+                        long quantity = ThreadLocalRandom.current().nextLong(1, 4);
+                        try {
+                            inventoryService.reserve(HOT_SKU, quantity);
+                            reservedUnits.addAndGet(quantity);
+                        } catch (InsufficientStockException e) {
+                            if (inventoryService.getStock(HOT_SKU).getAvailable() == 0) {
+                                return;
+                            }
+                        }
+                    }
+                });
+            }
+            start.countDown();
+        }
+
+        // Then
+        assertThat(reservedUnits.get()).isEqualTo(stock);
+        assertThat(inventoryService.getStock(HOT_SKU).getAvailable()).isZero();
+        assertThat(inventoryService.getStock(HOT_SKU).getReserved()).isEqualTo(stock);
+    }
+
+    @ParameterizedTest(name = "sharded = {0}")
+    @ValueSource(booleans = {false, true})
+    @DisplayName("Should conserve stock across concurrent reserve, commit and release")
+    void shouldConserveStockAcrossMixedOperations(boolean sharded) throws InterruptedException {
+        // Given
+        inventoryService = inventoryService(sharded);
+        long stock = 1_000;
+        int operationsPerThread = 5_000;
+        inventoryService.restock(HOT_SKU, stock);
+        AtomicLong committedUnits = new AtomicLong();
+        AtomicBoolean wentNegative = new AtomicBoolean();
+        AtomicBoolean running = new AtomicBoolean(true);
+        CountDownLatch start = new CountDownLatch(1);
+        Thread monitor = Thread.ofPlatform().start(() -> {
+            while (running.get()) {
+                if (inventoryService.getStock(HOT_SKU).getAvailable() < 0) {
+                    wentNegative.set(true);
+                }
+            }
+        });
+
+        // When
+        try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+            for (int t = 0; t < THREADS; t++) {
+                executor.execute(() -> {
+                    await(start);
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int i = 0; i < operationsPerThread; i++) {
+                        long quantity = random.nextLong(1, 5);
+                        ReservationResponse reservation;
+                        try {
+                            reservation = inventoryService.reserve(HOT_SKU, quantity);
+                        } catch (InsufficientStockException e) {
+                            continue;
+                        }
+                        // Commit rarely so stock lasts for the whole run
+                        if (random.nextInt(100) == 0) {
+                            inventoryService.commit(reservation.getId());
+                            committedUnits.addAndGet(quantity);
+                        } else {
+                            inventoryService.release(reservation.getId());
+                        }
+                    }
+                });
+            }
+            start.countDown();
+        }
+        running.set(false);
+        monitor.join();
+
+        // Then
+        long available = inventoryService.getStock(HOT_SKU).getAvailable();
+        assertThat(wentNegative).isFalse();
+        assertThat(inventoryService.getStock(HOT_SKU).getReserved()).isZero();
+        assertThat(available + committedUnits.get()).isEqualTo(stock);
+    }
+
+    private static InventoryService inventoryService(boolean sharded) {
+        InventoryProperties properties = new InventoryProperties();
+        if (sharded) {
+            properties.getSharding().setSkus(Set.of(HOT_SKU));
+        }
+        return new InventoryService(new StockLedger(properties), properties);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
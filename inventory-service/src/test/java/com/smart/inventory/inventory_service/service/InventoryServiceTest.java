@@ -0,0 +1,110 @@
+package com.smart.inventory.inventory_service.service;
+
+import com.smart.inventory.inventory_service.config.InventoryProperties;
+import com.smart.inventory.inventory_service.dto.ReservationResponse;
+import com.smart.inventory.inventory_service.exception.InsufficientStockException;
+import com.smart.inventory.inventory_service.exception.ReservationNotFoundException;
+import com.smart.inventory.inventory_service.exception.StockNotFoundException;
+import com.smart.inventory.inventory_service.model.StockSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("InventoryService Tests")
+class InventoryServiceTest {
+
+    private StockLedger stockLedger;
+    private InventoryProperties inventoryProperties;
+    private InventoryService inventoryService;
+
+    @BeforeEach
+    void setUp() {
+        inventoryProperties = new InventoryProperties();
+        stockLedger = new StockLedger(inventoryProperties);
+        inventoryService = new InventoryService(stockLedger, inventoryProperties);
+        inventoryService.restock("SKU-1", 10);
+        stockLedger.drainDirty();
+    }
+
+    @Test
+    @DisplayName("Should move reserved units out of available stock")
+    void shouldReserveStock() {
+        // When
+        ReservationResponse reservation = inventoryService.reserve("SKU-1", 4);
+
+        // Then
+        assertThat(reservation.getQuantity()).isEqualTo(4);
+        assertThat(inventoryService.getStock("SKU-1").getAvailable()).isEqualTo(6);
+        assertThat(inventoryService.getStock("SKU-1").getReserved()).isEqualTo(4);
+        assertThat(stockLedger.drainDirty()).containsExactly(new StockSnapshot("SKU-1", 6, 4));
+    }
+
+    @Test
+    @DisplayName("Should reject reservation larger than available stock")
+    void shouldRejectInsufficientStock() {
+        // When & Then
+        assertThatThrownBy(() -> inventoryService.reserve("SKU-1", 11))
+                .isInstanceOf(InsufficientStockException.class);
+        assertThat(inventoryService.getStock("SKU-1").getAvailable()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Should throw for unknown SKU")
+    void shouldThrowForUnknownSku() {
+        // When & Then
+        assertThatThrownBy(() -> inventoryService.reserve("NOPE", 1))
+                .isInstanceOf(StockNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Should remove units from stock on commit")
+    void shouldCommitReservation() {
+        // Given
+        ReservationResponse reservation = inventoryService.reserve("SKU-1", 4);
+
+        // When
+        inventoryService.commit(reservation.getId());
+
+        // Then
+        assertThat(inventoryService.getStock("SKU-1").getAvailable()).isEqualTo(6);
+        assertThat(inventoryService.getStock("SKU-1").getReserved()).isZero();
+        assertThatThrownBy(() -> inventoryService.release(reservation.getId()))
+                .isInstanceOf(ReservationNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Should return units to available stock on release")
+    void shouldReleaseReservation() {
+        // Given
+        ReservationResponse reservation = inventoryService.reserve("SKU-1", 4);
+
+        // When
+        inventoryService.release(reservation.getId());
+
+        // Then
+        assertThat(inventoryService.getStock("SKU-1").getAvailable()).isEqualTo(10);
+        assertThat(inventoryService.getStock("SKU-1").getReserved()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should release reservations once their TTL has passed")
+    void shouldExpireReservations() throws InterruptedException {
+        // Given
+        inventoryProperties.setReservationTtl(Duration.ofMillis(1));
+        ReservationResponse reservation = inventoryService.reserve("SKU-1", 4);
+        Thread.sleep(5);
+
+        // When
+        inventoryService.expireReservations();
+
+        // Then
+        assertThat(inventoryService.getStock("SKU-1").getAvailable()).isEqualTo(10);
+        assertThatThrownBy(() -> inventoryService.commit(reservation.getId()))
+                .isInstanceOf(ReservationNotFoundException.class);
+    }
+}
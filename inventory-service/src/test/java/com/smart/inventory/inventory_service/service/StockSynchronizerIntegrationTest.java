@@ -0,0 +1,74 @@
+package com.smart.inventory.inventory_service.service;
+
+import com.smart.inventory.inventory_service.model.StockSnapshot;
+import com.smart.inventory.inventory_service.repository.StockRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("StockSynchronizer Integration Tests")
+class StockSynchronizerIntegrationTest {
+
+    @Autowired
+    private InventoryService inventoryService;
+
+    @Autowired
+    private StockSynchronizer stockSynchronizer;
+
+    @Autowired
+    private StockRepository stockRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Should write stock changes behind to the database")
+    void shouldFlushChangesInBackground() throws InterruptedException {
+        // Given
+        inventoryService.restock("SYNC-1", 50);
+
+        // When
+        inventoryService.reserve("SYNC-1", 20);
+
+        // Then
+        awaitRow(new StockSnapshot("SYNC-1", 30, 20));
+    }
+
+    @Test
+    @DisplayName("Should rewrite rows that drifted from memory on reconciliation")
+    void shouldReconcileDriftedRows() throws InterruptedException {
+        // Given
+        inventoryService.restock("SYNC-2", 10);
+        awaitRow(new StockSnapshot("SYNC-2", 10, 0));
+        jdbcTemplate.update("UPDATE inventory_stock SET available = 999 WHERE sku = 'SYNC-2'");
+
+        // When
+        stockSynchronizer.reconcile();
+
+        // Then
+        awaitRow(new StockSnapshot("SYNC-2", 10, 0));
+    }
+
+    private void awaitRow(StockSnapshot expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!expected.equals(findRow(expected.getSku()).orElse(null)) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(findRow(expected.getSku())).contains(expected);
+    }
+
+    private Optional<StockSnapshot> findRow(String sku) {
+        return stockRepository.findAll().stream()
+                .filter(row -> row.getSku().equals(sku))
+                .findFirst();
+    }
+}
@@ -0,0 +1,84 @@
+import org.springframework.boot.gradle.plugin.SpringBootPlugin
+import java.net.URI
+import java.net.http.HttpClient
+import java.net.http.HttpRequest
+import java.net.http.HttpResponse
+import java.nio.file.Files
+import java.time.Duration
+
+plugins {
+	id("io.spring.dependency-management")
+	id("io.gatling.gradle")
+}
+
+dependencyManagement {
+	imports {
+		mavenBom(SpringBootPlugin.BOM_COORDINATES)
+	}
+}
+
+val loadTestPort = providers.gradleProperty("loadTest.port").getOrElse("18080")
+// -PloadTest.datastore=h2-pg|postgres boots the service with that datastore profile on top of prod.
+val loadTestProfiles = listOfNotNull("prod", providers.gradleProperty("loadTest.datastore").orNull).joinToString(",")
+
+gatling {
+	// -PloadTest.<key>=<value> reaches the simulations as the system property loadTest.<key>.
+	systemProperties = providers.gradlePropertiesPrefixedBy("loadTest.").get() +
+			mapOf("loadTest.baseUrl" to providers.gradleProperty("loadTest.baseUrl")
+					.getOrElse("http://localhost:$loadTestPort"))
+}
+
+var userService: Process? = null
+
+val startUserService by tasks.registering {
+	description = "Boots the user-service jar with the prod profile, against a scratch H2 file store unless a datastore is chosen."
+	dependsOn(":user-service:bootJar")
+	doLast {
+		val jar = project(":user-service").layout.buildDirectory
+				.file("libs/user-service-${project.version}.jar").get().asFile
+		val java = javaToolchains.launcherFor { languageVersion.set(JavaLanguageVersion.of(21)) }
+				.get().executablePath.asFile
+		val dataDir = Files.createTempDirectory("userdb-load-test")
+		val log = layout.buildDirectory.file("user-service.log").get().asFile
+		log.parentFile.mkdirs()
+		userService = ProcessBuilder(java.absolutePath, "-jar", jar.absolutePath,
+				"--server.port=$loadTestPort",
+				"--spring.profiles.active=$loadTestProfiles",
+				"--smartorder.datastore.h2-file=${dataDir.resolve("userdb")}",
+				"--smartorder.outbox.file.path=${dataDir.resolve("user-events.ndjson")}")
+				.redirectErrorStream(true)
+				.redirectOutput(log)
+				.start()
+
+		val client = HttpClient.newHttpClient()
+		val health = HttpRequest.newBuilder(URI.create("http://localhost:$loadTestPort/actuator/health")).build()
+		val deadline = System.nanoTime() + Duration.ofSeconds(60).toNanos()
+		while (true) {
+			val up = runCatching { client.send(health, HttpResponse.BodyHandlers.discarding()).statusCode() == 200 }
+					.getOrDefault(false)
+			if (up) break
+			if (!userService!!.isAlive || System.nanoTime() > deadline) {
+				userService?.destroy()
+				throw GradleException("user-service did not become healthy; see $log")
+			}
+			Thread.sleep(250)
+		}
+	}
+}
+
+val stopUserService by tasks.registering {
+	doLast {
+		userService?.let {
+			it.destroy()
+			it.waitFor()
+		}
+	}
+}
+
+// Without -PloadTest.baseUrl the run boots its own user-service and stops it afterwards.
+if (!providers.gradleProperty("loadTest.baseUrl").isPresent) {
+	tasks.named("gatlingRun") {
+		dependsOn(startUserService)
+		finalizedBy(stopUserService)
+	}
+}
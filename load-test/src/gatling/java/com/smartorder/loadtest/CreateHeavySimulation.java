@@ -0,0 +1,25 @@
+package com.smartorder.loadtest;
+
+import io.gatling.javaapi.core.ScenarioBuilder;
+import io.gatling.javaapi.core.Simulation;
+
+import static io.gatling.javaapi.core.CoreDsl.atOnceUsers;
+import static io.gatling.javaapi.core.CoreDsl.percent;
+import static io.gatling.javaapi.core.CoreDsl.randomSwitch;
+import static io.gatling.javaapi.core.CoreDsl.scenario;
+
+/** Sign-up burst: 90% POST /api/users, the rest reads of existing users. */
+public class CreateHeavySimulation extends Simulation {
+
+    private final ScenarioBuilder createHeavy = scenario("create-heavy")
+            .exec(randomSwitch().on(
+                    percent(90.0).then(UserRequests.CREATE),
+                    percent(10.0).then(UserRequests.GET)));
+
+    {
+        setUp(UserRequests.seed().injectOpen(atOnceUsers(1))
+                .andThen(createHeavy.injectOpen(LoadTestSettings.injection())))
+                .protocols(UserRequests.protocol())
+                .assertions(LoadTestSettings.slos());
+    }
+}
@@ -0,0 +1,63 @@
+package com.smartorder.loadtest;
+
+import io.gatling.javaapi.core.Assertion;
+import io.gatling.javaapi.core.OpenInjectionStep;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.gatling.javaapi.core.CoreDsl.constantUsersPerSec;
+import static io.gatling.javaapi.core.CoreDsl.global;
+import static io.gatling.javaapi.core.CoreDsl.incrementUsersPerSec;
+import static io.gatling.javaapi.core.CoreDsl.rampUsersPerSec;
+
+/**
+ * Load shape and SLOs, read from {@code loadTest.*} system properties ({@code -PloadTest.rate=200} on the
+ * Gradle command line). Every virtual user sends one request, so arrival rate is request rate.
+ */
+final class LoadTestSettings {
+    static final String BASE_URL = System.getProperty("loadTest.baseUrl", "http://localhost:8080");
+
+    /** {@code constant} holds {@link #RATE} and gates on the SLOs; {@code stairs} climbs to find saturation. */
+    private static final String SHAPE = System.getProperty("loadTest.shape", "constant");
+    private static final double RATE = Double.parseDouble(System.getProperty("loadTest.rate", "100"));
+    private static final Duration RAMP = Duration.ofSeconds(Long.getLong("loadTest.rampSeconds", 10));
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("loadTest.durationSeconds", 60));
+    private static final int STAIRS = Integer.getInteger("loadTest.stairs", 10);
+
+    private static final int P99_MS = Integer.getInteger("loadTest.slo.p99Ms", 250);
+    private static final double MAX_ERROR_PERCENT =
+            Double.parseDouble(System.getProperty("loadTest.slo.maxErrorPercent", "1.0"));
+    /** Unset by default: the mean includes the ramp, so set it per environment. */
+    private static final String MIN_RPS = System.getProperty("loadTest.slo.minRps");
+
+    private LoadTestSettings() {
+    }
+
+    static OpenInjectionStep[] injection() {
+        if ("stairs".equals(SHAPE)) {
+            return new OpenInjectionStep[]{
+                    incrementUsersPerSec(RATE)
+                            .times(STAIRS)
+                            .eachLevelLasting(DURATION.dividedBy(STAIRS))
+                            .separatedByRampsLasting(RAMP.dividedBy(STAIRS))
+                            .startingFrom(RATE)
+            };
+        }
+        return new OpenInjectionStep[]{
+                rampUsersPerSec(1).to(RATE).during(RAMP),
+                constantUsersPerSec(RATE).during(DURATION)
+        };
+    }
+
+    static Assertion[] slos() {
+        List<Assertion> assertions = new ArrayList<>(List.of(
+                global().responseTime().percentile(99.0).lt(P99_MS),
+                global().failedRequests().percent().lte(MAX_ERROR_PERCENT)));
+        if (MIN_RPS != null) {
+            assertions.add(global().requestsPerSec().gte(Double.parseDouble(MIN_RPS)));
+        }
+        return assertions.toArray(Assertion[]::new);
+    }
+}
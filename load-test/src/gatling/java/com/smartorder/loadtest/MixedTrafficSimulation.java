@@ -0,0 +1,27 @@
+package com.smartorder.loadtest;
+
+import io.gatling.javaapi.core.ScenarioBuilder;
+import io.gatling.javaapi.core.Simulation;
+
+import static io.gatling.javaapi.core.CoreDsl.atOnceUsers;
+import static io.gatling.javaapi.core.CoreDsl.percent;
+import static io.gatling.javaapi.core.CoreDsl.randomSwitch;
+import static io.gatling.javaapi.core.CoreDsl.scenario;
+
+/** Steady state: a third writes, the rest split across the read endpoints. */
+public class MixedTrafficSimulation extends Simulation {
+
+    private final ScenarioBuilder mixed = scenario("mixed")
+            .exec(randomSwitch().on(
+                    percent(30.0).then(UserRequests.CREATE),
+                    percent(40.0).then(UserRequests.GET),
+                    percent(20.0).then(UserRequests.LIST),
+                    percent(10.0).then(UserRequests.LOOKUP)));
+
+    {
+        setUp(UserRequests.seed().injectOpen(atOnceUsers(1))
+                .andThen(mixed.injectOpen(LoadTestSettings.injection())))
+                .protocols(UserRequests.protocol())
+                .assertions(LoadTestSettings.slos());
+    }
+}
@@ -0,0 +1,27 @@
+package com.smartorder.loadtest;
+
+import io.gatling.javaapi.core.ScenarioBuilder;
+import io.gatling.javaapi.core.Simulation;
+
+import static io.gatling.javaapi.core.CoreDsl.atOnceUsers;
+import static io.gatling.javaapi.core.CoreDsl.percent;
+import static io.gatling.javaapi.core.CoreDsl.randomSwitch;
+import static io.gatling.javaapi.core.CoreDsl.scenario;
+
+/** Downstream services resolving users: single gets, listings and batch lookups, almost no writes. */
+public class ReadHeavySimulation extends Simulation {
+
+    private final ScenarioBuilder readHeavy = scenario("read-heavy")
+            .exec(randomSwitch().on(
+                    percent(60.0).then(UserRequests.GET),
+                    percent(25.0).then(UserRequests.LIST),
+                    percent(13.0).then(UserRequests.LOOKUP),
+                    percent(2.0).then(UserRequests.CREATE)));
+
+    {
+        setUp(UserRequests.seed().injectOpen(atOnceUsers(1))
+                .andThen(readHeavy.injectOpen(LoadTestSettings.injection())))
+                .protocols(UserRequests.protocol())
+                .assertions(LoadTestSettings.slos());
+    }
+}
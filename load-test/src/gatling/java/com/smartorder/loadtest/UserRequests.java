@@ -0,0 +1,104 @@
+package com.smartorder.loadtest;
+
+import io.gatling.javaapi.core.ChainBuilder;
+import io.gatling.javaapi.core.ScenarioBuilder;
+import io.gatling.javaapi.http.HttpProtocolBuilder;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static io.gatling.javaapi.core.CoreDsl.StringBody;
+import static io.gatling.javaapi.core.CoreDsl.exec;
+import static io.gatling.javaapi.core.CoreDsl.feed;
+import static io.gatling.javaapi.core.CoreDsl.jsonPath;
+import static io.gatling.javaapi.core.CoreDsl.repeat;
+import static io.gatling.javaapi.core.CoreDsl.scenario;
+import static io.gatling.javaapi.http.HttpDsl.http;
+import static io.gatling.javaapi.http.HttpDsl.status;
+
+/** The user-service requests the simulations mix. */
+final class UserRequests {
+    private static final int SEED_BATCHES = 10;
+    private static final int SEED_BATCH_SIZE = 500;
+    private static final int LOOKUP_SIZE = 20;
+
+    // Unique per run, so repeated runs against the same database don't collide on email.
+    private static final String RUN = Long.toString(System.currentTimeMillis(), 36);
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+    private static final List<String> KNOWN_IDS = new CopyOnWriteArrayList<>();
+
+    private UserRequests() {
+    }
+
+    static HttpProtocolBuilder protocol() {
+        return http.baseUrl(LoadTestSettings.BASE_URL)
+                .acceptHeader("application/json")
+                .acceptEncodingHeader("gzip")
+                .contentTypeHeader("application/json");
+    }
+
+    /** Creates {@code SEED_BATCHES * SEED_BATCH_SIZE} users through the batch endpoint and remembers their ids. */
+    static ScenarioBuilder seed() {
+        return scenario("seed users")
+                .exec(repeat(SEED_BATCHES).on(
+                        exec(session -> session.set("batch", newUsersJson(SEED_BATCH_SIZE)))
+                                .exec(http("seed batch").post("/api/users/batch")
+                                        .body(StringBody("#{batch}"))
+                                        .check(status().is(200))
+                                        .check(jsonPath("$.results[*].user.id").findAll().saveAs("ids")))
+                                .exec(session -> {
+                                    session.getList("ids").forEach(id -> KNOWN_IDS.add(String.valueOf(id)));
+                                    return session;
+                                })));
+    }
+
+    static final ChainBuilder CREATE = feed(newUsers())
+            .exec(http("create user").post("/api/users")
+                    .body(StringBody("{\"name\":\"#{name}\",\"email\":\"#{email}\"}"))
+                    .check(status().is(201)));
+
+    // 304 is a success: the listing answers If-None-Match once the virtual user has cached a page.
+    static final ChainBuilder LIST = exec(http("list users").get("/api/users")
+            .queryParam("limit", 100)
+            .check(status().in(200, 304)));
+
+    static final ChainBuilder GET = exec(session -> session.set("userId", randomKnownId()))
+            .exec(http("get user").get("/api/users/#{userId}")
+                    .check(status().is(200)));
+
+    static final ChainBuilder LOOKUP = exec(session -> session.set("lookup", lookupJson()))
+            .exec(http("lookup users").post("/api/users/lookup")
+                    .body(StringBody("#{lookup}"))
+                    .check(status().is(200)));
+
+    private static Iterator<Map<String, Object>> newUsers() {
+        return Stream.generate(() -> {
+            long n = SEQUENCE.incrementAndGet();
+            return Map.<String, Object>of("name", "Load User " + n, "email", "load-" + RUN + "-" + n + "@example.com");
+        }).iterator();
+    }
+
+    private static String newUsersJson(int count) {
+        return IntStream.range(0, count)
+                .mapToLong(i -> SEQUENCE.incrementAndGet())
+                .mapToObj(n -> "{\"name\":\"Load User " + n + "\",\"email\":\"load-" + RUN + "-" + n + "@example.com\"}")
+                .collect(Collectors.joining(",", "[", "]"));
+    }
+
+    private static String randomKnownId() {
+        return KNOWN_IDS.get(ThreadLocalRandom.current().nextInt(KNOWN_IDS.size()));
+    }
+
+    private static String lookupJson() {
+        return IntStream.range(0, LOOKUP_SIZE)
+                .mapToObj(i -> randomKnownId())
+                .collect(Collectors.joining(",", "{\"ids\":[", "]}"));
+    }
+}
@@ -6,8 +6,24 @@ plugins {
 dependencies {
 	implementation("org.springframework.boot:spring-boot-starter-web")
 	implementation("org.springframework.boot:spring-boot-starter-data-jpa")
+	implementation("org.springframework.boot:spring-boot-starter-validation")
+	implementation("org.springframework.boot:spring-boot-starter-actuator")
+	implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-cbor")
 
 	runtimeOnly("com.h2database:h2")
+	runtimeOnly("io.micrometer:micrometer-registry-prometheus")
 	implementation("org.liquibase:liquibase-core")
+	implementation("io.github.resilience4j:resilience4j-circuitbreaker:2.2.0")
+	implementation("io.github.resilience4j:resilience4j-bulkhead:2.2.0")
+	implementation("io.github.resilience4j:resilience4j-micrometer:2.2.0")
+
+	// Testing dependencies
 	testImplementation("org.springframework.boot:spring-boot-starter-test")
 }
+
+tasks.test {
+	useJUnitPlatform()
+}
+
+// Request that measureStartup times: the first one the service actually serves, not just the health check.
+extra["startupProbePath"] = "/api/orders/1"
@@ -0,0 +1,191 @@
+package com.smart.order.order_service.client;
+
+import com.smart.order.order_service.config.UserClientProperties;
+import com.smart.order.order_service.dto.UserLookupResponse;
+import com.smart.order.order_service.dto.UserSummary;
+import com.smart.order.order_service.exception.UserServiceUnavailableException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClient;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Typed client for user-service. Calls go through a bulkhead and a circuit breaker, and
+ * concurrent lookups of the same user share one request. The JDK {@link HttpClient} keeps
+ * connections alive and pools them per host.
+ */
+@Component
+public class UserServiceClient {
+    static final String INSTANCE = "user-service";
+    private static final Duration RETRY_AFTER = Duration.ofSeconds(1);
+    /** user-service's limit on keys per lookup request. */
+    static final int MAX_LOOKUP_KEYS = 10_000;
+
+    private final RestClient restClient;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final Duration openStateWait;
+    private final ConcurrentMap<Long, CompletableFuture<Optional<UserSummary>>> inFlightLookups = new ConcurrentHashMap<>();
+    private final Counter coalescedLookups;
+    private final Timer lookupTimer;
+
+    public UserServiceClient(RestClient.Builder restClientBuilder, UserClientProperties clientProperties,
+                             MeterRegistry meterRegistry) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(clientProperties.isHttp2() ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+                .connectTimeout(clientProperties.getConnectTimeout())
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(clientProperties.getReadTimeout());
+        this.restClient = restClientBuilder
+                .baseUrl(clientProperties.getBaseUrl())
+                .requestFactory(requestFactory)
+                .build();
+
+        UserClientProperties.CircuitBreaker breaker = clientProperties.getCircuitBreaker();
+        CircuitBreakerRegistry circuitBreakers = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .failureRateThreshold(breaker.getFailureRateThreshold())
+                .slidingWindowSize(breaker.getSlidingWindowSize())
+                .minimumNumberOfCalls(breaker.getMinimumNumberOfCalls())
+                .waitDurationInOpenState(breaker.getWaitDurationInOpenState())
+                .permittedNumberOfCallsInHalfOpenState(breaker.getPermittedCallsInHalfOpenState())
+                .recordExceptions(ResourceAccessException.class, HttpServerErrorException.class)
+                .build());
+        BulkheadRegistry bulkheads = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(clientProperties.getBulkhead().getMaxConcurrentCalls())
+                .maxWaitDuration(clientProperties.getBulkhead().getMaxWaitDuration())
+                .build());
+        this.circuitBreaker = circuitBreakers.circuitBreaker(INSTANCE);
+        this.bulkhead = bulkheads.bulkhead(INSTANCE);
+        this.openStateWait = breaker.getWaitDurationInOpenState();
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakers).bindTo(meterRegistry);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheads).bindTo(meterRegistry);
+
+        this.coalescedLookups = Counter.builder("users.client.coalesced")
+                .description("User lookups answered by an identical request already in flight")
+                .register(meterRegistry);
+        this.lookupTimer = Timer.builder("users.client.lookup")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Looks a user up by id; empty when user-service answers 404.
+     *
+     * @throws UserServiceUnavailableException when the call times out, fails, or is refused by
+     *                                         the circuit breaker or bulkhead
+     */
+    public Optional<UserSummary> findUser(long userId) {
+        CompletableFuture<Optional<UserSummary>> lookup = new CompletableFuture<>();
+        CompletableFuture<Optional<UserSummary>> inFlight = inFlightLookups.putIfAbsent(userId, lookup);
+        if (inFlight != null) {
+            coalescedLookups.increment();
+            return await(inFlight);
+        }
+        Timer.Sample sample = Timer.start();
+        try {
+            Optional<UserSummary> user = call(() -> fetchUser(userId));
+            lookup.complete(user);
+            return user;
+        } catch (RuntimeException e) {
+            lookup.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightLookups.remove(userId, lookup);
+            sample.stop(lookupTimer);
+        }
+    }
+
+    /**
+     * Resolves many users with one request per {@value #MAX_LOOKUP_KEYS} ids; ids user-service
+     * does not know are absent from the result.
+     *
+     * @throws UserServiceUnavailableException as for {@link #findUser(long)}
+     */
+    public Map<Long, UserSummary> findUsers(Collection<Long> userIds) {
+        List<Long> ids = userIds.stream().distinct().toList();
+        Map<Long, UserSummary> users = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += MAX_LOOKUP_KEYS) {
+            List<Long> chunk = ids.subList(from, Math.min(from + MAX_LOOKUP_KEYS, ids.size()));
+            users.putAll(call(() -> lookupUsers(chunk)).getById());
+        }
+        return users;
+    }
+
+    private UserLookupResponse lookupUsers(List<Long> ids) {
+        UserLookupResponse response = restClient.post()
+                .uri("/api/users/lookup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_CBOR, MediaType.APPLICATION_JSON)
+                .body(Map.of("ids", ids))
+                .retrieve()
+                .body(UserLookupResponse.class);
+        return response == null ? new UserLookupResponse() : response;
+    }
+
+    private Optional<UserSummary> fetchUser(long userId) {
+        try {
+            return Optional.ofNullable(restClient.get()
+                    .uri("/api/users/{id}", userId)
+                    .accept(MediaType.APPLICATION_CBOR, MediaType.APPLICATION_JSON)
+                    .retrieve()
+                    .body(UserSummary.class));
+        } catch (HttpClientErrorException.NotFound e) {
+            return Optional.empty();
+        }
+    }
+
+    private <T> T call(Supplier<T> request) {
+        // The bulkhead sits outside the breaker so that rejected calls are not counted as failures.
+        Supplier<T> guarded = Bulkhead.decorateSupplier(bulkhead, CircuitBreaker.decorateSupplier(circuitBreaker, request));
+        try {
+            return guarded.get();
+        } catch (CallNotPermittedException e) {
+            throw new UserServiceUnavailableException("User service circuit is open", openStateWait, e);
+        } catch (BulkheadFullException e) {
+            throw new UserServiceUnavailableException("Too many concurrent user-service calls", RETRY_AFTER, e);
+        } catch (ResourceAccessException | HttpServerErrorException e) {
+            throw new UserServiceUnavailableException("User service call failed: " + e.getMessage(), RETRY_AFTER, e);
+        }
+    }
+
+    private static <T> T await(CompletableFuture<T> inFlight) {
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
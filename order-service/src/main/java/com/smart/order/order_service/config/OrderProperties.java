@@ -0,0 +1,27 @@
+package com.smart.order.order_service.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "smartorder.orders")
+public class OrderProperties {
+    private final Intake intake = new Intake();
+
+    @Data
+    public static class Intake {
+        private int queueCapacity = 10_000;
+        private int batchSize = 500;
+        private Duration flushInterval = Duration.ofMillis(20);
+        private Duration retryAfter = Duration.ofSeconds(1);
+        /** Attempts per batch before falling back to row-by-row inserts; the wait doubles after each. */
+        private int writeAttempts = 3;
+        private Duration writeBackoff = Duration.ofMillis(100);
+        /** NDJSON file for accepted orders that could not be inserted; replay them from here. */
+        private String deadLetterFile = "./data/orders-dead-letter.ndjson";
+        /** Must match the INCREMENT BY of orders_seq. */
+        private int idBlockSize = 1000;
+    }
+}
@@ -0,0 +1,21 @@
+package com.smart.order.order_service.config;
+
+import com.smart.order.order_service.replica.UserReplicaSynchronizer;
+import com.smart.order.order_service.service.OrderBatchWriter;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Keeps background work eager under the {@code fast-start} profile's lazy initialization. The filter is
+ * registered with and without the profile, so the bean definitions stay the same, as AOT processing requires.
+ */
+@Configuration
+public class StartupConfig {
+
+    /** Lifecycle beans are started at refresh anyway; keeping them eager makes that explicit. */
+    @Bean
+    static LazyInitializationExcludeFilter eagerBackgroundWork() {
+        return LazyInitializationExcludeFilter.forBeanTypes(OrderBatchWriter.class, UserReplicaSynchronizer.class);
+    }
+}
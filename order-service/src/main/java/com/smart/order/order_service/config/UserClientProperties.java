@@ -0,0 +1,34 @@
+package com.smart.order.order_service.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "smartorder.users.client")
+public class UserClientProperties {
+    private String baseUrl = "http://localhost:8080";
+    private Duration connectTimeout = Duration.ofMillis(500);
+    /** Upper bound for a whole call, headers and body. */
+    private Duration readTimeout = Duration.ofSeconds(1);
+    /** Negotiate HTTP/2 (h2c upgrade over plain HTTP), falling back to HTTP/1.1. */
+    private boolean http2 = true;
+    private final CircuitBreaker circuitBreaker = new CircuitBreaker();
+    private final Bulkhead bulkhead = new Bulkhead();
+
+    @Data
+    public static class CircuitBreaker {
+        private float failureRateThreshold = 50;
+        private int slidingWindowSize = 20;
+        private int minimumNumberOfCalls = 10;
+        private Duration waitDurationInOpenState = Duration.ofSeconds(5);
+        private int permittedCallsInHalfOpenState = 3;
+    }
+
+    @Data
+    public static class Bulkhead {
+        private int maxConcurrentCalls = 32;
+        private Duration maxWaitDuration = Duration.ZERO;
+    }
+}
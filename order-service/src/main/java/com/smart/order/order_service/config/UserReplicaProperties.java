@@ -0,0 +1,22 @@
+package com.smart.order.order_service.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "smartorder.users.replica")
+public class UserReplicaProperties {
+    private boolean enabled = true;
+    private String baseUrl = "http://localhost:8080";
+    private int pageSize = 1000;
+    private int expectedUsers = 100_000;
+    /**
+     * NDJSON file written by user-service's file outbox sink. Required when the replica is enabled, and
+     * only works where both services see the same file (same host or shared volume).
+     */
+    private String eventsFile;
+    private Duration tailInterval = Duration.ofMillis(200);
+    private Duration retryInterval = Duration.ofSeconds(5);
+}
@@ -0,0 +1,31 @@
+package com.smart.order.order_service.controller;
+
+import com.smart.order.order_service.dto.CreateOrderRequest;
+import com.smart.order.order_service.dto.OrderResponse;
+import com.smart.order.order_service.service.OrderService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/orders")
+public class OrderController {
+    private final OrderService orderService;
+
+    @PostMapping
+    public ResponseEntity<OrderResponse> placeOrder(@Valid @RequestBody CreateOrderRequest orderRequest) {
+        OrderResponse order = orderService.placeOrder(orderRequest);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/orders/" + order.getId()))
+                .body(order);
+    }
+
+    @GetMapping("/{id}")
+    public OrderResponse getOrder(@PathVariable Long id) {
+        return orderService.getOrder(id);
+    }
+}
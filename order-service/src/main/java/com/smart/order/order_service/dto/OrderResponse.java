@@ -0,0 +1,32 @@
+package com.smart.order.order_service.dto;
+
+import com.smart.order.order_service.model.Order;
+import com.smart.order.order_service.model.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@AllArgsConstructor
+public class OrderResponse {
+    private Long id;
+    private Long userId;
+    private String sku;
+    private int quantity;
+    private OrderStatus status;
+    private LocalDateTime createdAt;
+
+    public static OrderResponse from(Order order) {
+        return OrderResponse.builder()
+                .id(order.getId())
+                .userId(order.getUserId())
+                .sku(order.getSku())
+                .quantity(order.getQuantity())
+                .status(order.getStatus())
+                .createdAt(order.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,17 @@
+package com.smart.order.order_service.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/** The id half of user-service's {@code POST /api/users/lookup} response. */
+@Data
+@NoArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class UserLookupResponse {
+    private Map<Long, UserSummary> byId = Map.of();
+    private List<Long> missingIds = List.of();
+}
@@ -0,0 +1,103 @@
+package com.smart.order.order_service.exception;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.web.ErrorResponseException;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+
+import java.net.URI;
+import java.time.Duration;
+
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    public ProblemDetail handleMethodArgumentNotValidException(MethodArgumentNotValidException ex) {
+        ProblemDetail problemDetail = ProblemDetail.forStatus(HttpStatus.BAD_REQUEST);
+        problemDetail.setTitle("Validation Error");
+        problemDetail.setDetail(ex.getBindingResult().getFieldErrors().stream()
+                .map(err -> err.getField() + ":" + err.getDefaultMessage())
+                .reduce((a, b) -> a + ", " + b)
+                .orElse("Invalid input"));
+        problemDetail.setType(URI.create("https://smartorder.com/errors/validation"));
+        return problemDetail;
+    }
+
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ProblemDetail handleJsonParse(HttpMessageNotReadableException ex) {
+        ProblemDetail problemDetail = ProblemDetail.forStatus(HttpStatus.BAD_REQUEST);
+        problemDetail.setTitle("Malformed JSON request");
+        problemDetail.setDetail("Your request body was unreadable or invalid.");
+        return problemDetail;
+    }
+
+    @ExceptionHandler(ErrorResponseException.class)
+    public ProblemDetail handleKnownErrors(ErrorResponseException ex) {
+        return ex.getBody();
+    }
+
+    @ExceptionHandler(OrderIntakeOverloadedException.class)
+    public ResponseEntity<ProblemDetail> handleOverloaded(OrderIntakeOverloadedException ex) {
+        ProblemDetail problemDetails = ProblemDetail.forStatus(HttpStatus.TOO_MANY_REQUESTS);
+        problemDetails.setTitle("Too many orders");
+        problemDetails.setDetail(ex.getMessage());
+        problemDetails.setType(URI.create("https://smartorder.com/errors/order-intake-overloaded"));
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds(ex.getRetryAfter())))
+                .body(problemDetails);
+    }
+
+    @ExceptionHandler(UnknownUserException.class)
+    public ProblemDetail handleUnknownUser(UnknownUserException ex) {
+        ProblemDetail problemDetails = ProblemDetail.forStatus(HttpStatus.UNPROCESSABLE_ENTITY);
+        problemDetails.setTitle("Unknown user");
+        problemDetails.setDetail(ex.getMessage());
+        problemDetails.setType(URI.create("https://smartorder.com/errors/unknown-user"));
+        return problemDetails;
+    }
+
+    @ExceptionHandler(UserServiceUnavailableException.class)
+    public ResponseEntity<ProblemDetail> handleUserServiceUnavailable(UserServiceUnavailableException ex) {
+        ProblemDetail problemDetails = ProblemDetail.forStatus(HttpStatus.SERVICE_UNAVAILABLE);
+        problemDetails.setTitle("User service unavailable");
+        problemDetails.setDetail(ex.getMessage());
+        problemDetails.setType(URI.create("https://smartorder.com/errors/user-service-unavailable"));
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds(ex.getRetryAfter())))
+                .body(problemDetails);
+    }
+
+    @ExceptionHandler(OrderNotFoundException.class)
+    public ProblemDetail handleOrderNotFound(OrderNotFoundException ex) {
+        ProblemDetail problemDetails = ProblemDetail.forStatus(HttpStatus.NOT_FOUND);
+        problemDetails.setTitle("Order not found");
+        problemDetails.setDetail(ex.getMessage());
+        problemDetails.setType(URI.create("https://smartorder.com/errors/order-not-found"));
+        return problemDetails;
+    }
+
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ProblemDetail handleArgumentTypeMismatch(MethodArgumentTypeMismatchException ex) {
+        ProblemDetail problemDetails = ProblemDetail.forStatus(HttpStatus.BAD_REQUEST);
+        problemDetails.setTitle("Invalid parameter");
+        problemDetails.setDetail("Parameter '" + ex.getName() + "' has an invalid value.");
+        return problemDetails;
+    }
+
+    @ExceptionHandler(Exception.class)
+    public ProblemDetail handleUnknown(Exception ex) {
+        ProblemDetail problemDetails = ProblemDetail.forStatus(HttpStatus.INTERNAL_SERVER_ERROR);
+        problemDetails.setTitle("Internal Server Error");
+        problemDetails.setDetail("Something went wrong.");
+        return problemDetails;
+    }
+
+    private static long retryAfterSeconds(Duration retryAfter) {
+        return Math.max(1, (retryAfter.toMillis() + 999) / 1000);
+    }
+}
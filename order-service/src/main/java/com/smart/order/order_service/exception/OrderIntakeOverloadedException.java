@@ -0,0 +1,15 @@
+package com.smart.order.order_service.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+@Getter
+public class OrderIntakeOverloadedException extends RuntimeException {
+    private final Duration retryAfter;
+
+    public OrderIntakeOverloadedException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+}
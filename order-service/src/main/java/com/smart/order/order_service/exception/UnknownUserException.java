@@ -0,0 +1,7 @@
+package com.smart.order.order_service.exception;
+
+public class UnknownUserException extends RuntimeException {
+    public UnknownUserException(String message) {
+        super(message);
+    }
+}
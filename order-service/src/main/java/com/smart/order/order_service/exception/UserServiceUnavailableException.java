@@ -0,0 +1,15 @@
+package com.smart.order.order_service.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+@Getter
+public class UserServiceUnavailableException extends RuntimeException {
+    private final Duration retryAfter;
+
+    public UserServiceUnavailableException(String message, Duration retryAfter, Throwable cause) {
+        super(message, cause);
+        this.retryAfter = retryAfter;
+    }
+}
@@ -0,0 +1,7 @@
+package com.smart.order.order_service.model;
+
+public enum OrderStatus {
+    /** Accepted and queued, not yet written to the database. */
+    RECEIVED,
+    PLACED
+}
@@ -0,0 +1,157 @@
+package com.smart.order.order_service.replica;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Open-addressing map from positive user id to email, kept as a {@code long[]} of keys and
+ * UTF-8 {@code byte[]} values: no boxed keys, no entry objects, no per-entry String.
+ * Writers take a write lock; readers are lock-free unless they race a write.
+ */
+public final class CompactUserMap {
+    private static final long EMPTY = 0L;
+    private static final int ARRAY_HEADER_BYTES = 16;
+    private static final int REFERENCE_BYTES = 4;
+
+    private final StampedLock lock = new StampedLock();
+    private volatile Table table;
+    private int size;
+    private long valueBytes;
+
+    public CompactUserMap(int expectedSize) {
+        this.table = new Table(capacityFor(Math.max(expectedSize, 16)));
+    }
+
+    public void put(long id, String email) {
+        if (id <= EMPTY) {
+            throw new IllegalArgumentException("User id must be positive: " + id);
+        }
+        byte[] value = email.getBytes(StandardCharsets.UTF_8);
+        long stamp = lock.writeLock();
+        try {
+            if ((size + 1) * 4L > table.keys.length * 3L) {
+                table = resize(table);
+            }
+            Table current = table;
+            int slot = slot(current, id);
+            if (current.keys[slot] == EMPTY) {
+                current.values[slot] = value;
+                current.keys[slot] = id;
+                size++;
+            } else {
+                valueBytes -= arrayBytes(current.values[slot]);
+                current.values[slot] = value;
+            }
+            valueBytes += arrayBytes(value);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public boolean contains(long id) {
+        return find(id) != null;
+    }
+
+    public Optional<String> getEmail(long id) {
+        byte[] value = find(id);
+        return value == null ? Optional.empty() : Optional.of(new String(value, StandardCharsets.UTF_8));
+    }
+
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /** Approximate heap held by the map, assuming compressed references. */
+    public long estimatedBytes() {
+        long stamp = lock.readLock();
+        try {
+            int capacity = table.keys.length;
+            return ARRAY_HEADER_BYTES + (long) capacity * Long.BYTES
+                    + ARRAY_HEADER_BYTES + (long) capacity * REFERENCE_BYTES
+                    + valueBytes;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private byte[] find(long id) {
+        if (id <= EMPTY) {
+            return null;
+        }
+        long stamp = lock.tryOptimisticRead();
+        byte[] value = lookup(table, id);
+        if (lock.validate(stamp)) {
+            return value;
+        }
+        stamp = lock.readLock();
+        try {
+            return lookup(table, id);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private static byte[] lookup(Table table, long id) {
+        int mask = table.keys.length - 1;
+        for (int slot = hash(id) & mask; ; slot = (slot + 1) & mask) {
+            long key = table.keys[slot];
+            if (key == id) {
+                return table.values[slot];
+            }
+            if (key == EMPTY) {
+                return null;
+            }
+        }
+    }
+
+    private static int slot(Table table, long id) {
+        int mask = table.keys.length - 1;
+        int slot = hash(id) & mask;
+        while (table.keys[slot] != EMPTY && table.keys[slot] != id) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private static Table resize(Table old) {
+        Table resized = new Table(old.keys.length * 2);
+        for (int i = 0; i < old.keys.length; i++) {
+            if (old.keys[i] != EMPTY) {
+                int slot = slot(resized, old.keys[i]);
+                resized.keys[slot] = old.keys[i];
+                resized.values[slot] = old.values[i];
+            }
+        }
+        return resized;
+    }
+
+    private static int hash(long id) {
+        long h = id * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private static int capacityFor(int expectedSize) {
+        // Keep the load factor at or below 0.75
+        return Integer.highestOneBit(Math.max(expectedSize * 4 / 3, 2) - 1) << 1;
+    }
+
+    private static long arrayBytes(byte[] value) {
+        return (ARRAY_HEADER_BYTES + value.length + 7) & ~7L;
+    }
+
+    private static final class Table {
+        final long[] keys;
+        final byte[][] values;
+
+        Table(int capacity) {
+            keys = new long[capacity];
+            values = new byte[capacity][];
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.smart.order.order_service.replica;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Follows the NDJSON event file written by user-service's outbox relay, remembering the byte
+ * offset it has consumed up to. A line without its trailing newline is held back until complete.
+ */
+@Slf4j
+class UserEventTailer {
+    private static final String USER_CREATED = "UserCreated";
+    private static final int READ_CHUNK_BYTES = 64 * 1024;
+
+    private final Path file;
+    private final ObjectMapper objectMapper;
+    private final ByteArrayOutputStream partialLine = new ByteArrayOutputStream();
+    private long position;
+
+    UserEventTailer(Path file, ObjectMapper objectMapper) {
+        this.file = file;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Starts from the current end of the file. Called before the snapshot, so anything already
+     * in the file is covered by the snapshot and anything appended later is tailed.
+     */
+    void skipToEnd() throws IOException {
+        position = Files.exists(file) ? Files.size(file) : 0;
+        partialLine.reset();
+    }
+
+    /** Applies every complete event appended since the last call; returns how many were applied. */
+    int poll(UserReplica replica) throws IOException {
+        if (!Files.exists(file)) {
+            return 0;
+        }
+        int applied = 0;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() < position) {
+                log.warn("{} shrank, reading it again from the start", file);
+                position = 0;
+                partialLine.reset();
+            }
+            ByteBuffer buffer = ByteBuffer.allocate(READ_CHUNK_BYTES);
+            int read;
+            while ((read = channel.read(buffer, position)) > 0) {
+                position += read;
+                applied += applyLines(buffer.array(), read, replica);
+                buffer.clear();
+            }
+        }
+        return applied;
+    }
+
+    private int applyLines(byte[] bytes, int length, UserReplica replica) {
+        int applied = 0;
+        int lineStart = 0;
+        for (int i = 0; i < length; i++) {
+            if (bytes[i] != '\n') {
+                continue;
+            }
+            if (partialLine.size() > 0) {
+                partialLine.write(bytes, lineStart, i - lineStart);
+                applied += applyLine(partialLine.toByteArray(), 0, partialLine.size(), replica);
+                partialLine.reset();
+            } else {
+                applied += applyLine(bytes, lineStart, i - lineStart, replica);
+            }
+            lineStart = i + 1;
+        }
+        partialLine.write(bytes, lineStart, length - lineStart);
+        return applied;
+    }
+
+    private int applyLine(byte[] bytes, int offset, int length, UserReplica replica) {
+        if (length == 0) {
+            return 0;
+        }
+        try {
+            JsonNode event = objectMapper.readTree(bytes, offset, length);
+            if (!USER_CREATED.equals(event.path("type").asText())) {
+                return 0;
+            }
+            Instant occurredAt = parseInstant(event.path("occurredAt").asText());
+            replica.applyEvent(event.path("aggregateId").asLong(), event.path("payload").path("email").asText(), occurredAt);
+            return 1;
+        } catch (IOException | RuntimeException e) {
+            log.warn("Skipping unreadable user event at offset ~{} in {}", position, file, e);
+            return 0;
+        }
+    }
+
+    /** UTC instants; lines written before user-service switched to them carry a zone-less local time. */
+    private static Instant parseInstant(String text) {
+        try {
+            return Instant.parse(text);
+        } catch (DateTimeParseException e) {
+            return LocalDateTime.parse(text).atZone(ZoneId.systemDefault()).toInstant();
+        }
+    }
+}
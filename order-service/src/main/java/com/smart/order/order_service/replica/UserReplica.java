@@ -0,0 +1,79 @@
+package com.smart.order.order_service.replica;
+
+import com.smart.order.order_service.config.UserReplicaProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Local projection of user ids and emails, bootstrapped from a user-service snapshot and kept
+ * current from user change events. Answers nothing until the first snapshot has loaded.
+ */
+@Component
+public class UserReplica {
+    private final CompactUserMap users;
+    private final Timer eventLag;
+    private volatile boolean ready;
+    private volatile Instant lastSync;
+
+    public UserReplica(UserReplicaProperties replicaProperties, MeterRegistry meterRegistry) {
+        this.users = new CompactUserMap(replicaProperties.getExpectedUsers());
+        this.eventLag = Timer.builder("users.replica.event.lag")
+                .description("Time from a user change in user-service to it being applied here")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("users.replica.size", users, CompactUserMap::size).register(meterRegistry);
+        Gauge.builder("users.replica.bytes.per.entry", this, UserReplica::bytesPerEntry)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("users.replica.staleness", this, UserReplica::stalenessSeconds)
+                .description("Seconds since the replica last caught up with user-service")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public boolean contains(long userId) {
+        return users.contains(userId);
+    }
+
+    public Optional<String> findEmail(long userId) {
+        return users.getEmail(userId);
+    }
+
+    void apply(long userId, String email) {
+        users.put(userId, email);
+    }
+
+    void applyEvent(long userId, String email, Instant occurredAt) {
+        users.put(userId, email);
+        eventLag.record(Duration.between(occurredAt, Instant.now()));
+    }
+
+    void markReady() {
+        ready = true;
+        markSynced();
+    }
+
+    void markSynced() {
+        lastSync = Instant.now();
+    }
+
+    double bytesPerEntry() {
+        int size = users.size();
+        return size == 0 ? 0 : (double) users.estimatedBytes() / size;
+    }
+
+    private double stalenessSeconds() {
+        Instant synced = lastSync;
+        return synced == null ? Double.NaN : Duration.between(synced, Instant.now()).toMillis() / 1000.0;
+    }
+}
@@ -0,0 +1,115 @@
+package com.smart.order.order_service.replica;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smart.order.order_service.config.UserReplicaProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.client.RestClient;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Background thread that loads the user snapshot (retrying until user-service answers) and
+ * then tails user change events for the lifetime of the application.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "smartorder.users.replica.enabled", havingValue = "true", matchIfMissing = true)
+public class UserReplicaSynchronizer implements SmartLifecycle {
+    private final UserReplica replica;
+    private final UserSnapshotLoader snapshotLoader;
+    private final UserEventTailer eventTailer;
+    private final UserReplicaProperties replicaProperties;
+    private final Timer snapshotTimer;
+    private volatile boolean running;
+    private Thread syncThread;
+
+    public UserReplicaSynchronizer(UserReplica replica, RestClient.Builder restClientBuilder, ObjectMapper objectMapper,
+                                   UserReplicaProperties replicaProperties, MeterRegistry meterRegistry) {
+        this.replica = replica;
+        this.snapshotLoader = new UserSnapshotLoader(restClientBuilder, replicaProperties);
+        if (!StringUtils.hasText(replicaProperties.getEventsFile())) {
+            throw new IllegalStateException(
+                    "smartorder.users.replica.events-file must be set when the user replica is enabled");
+        }
+        this.eventTailer = new UserEventTailer(Path.of(replicaProperties.getEventsFile()), objectMapper);
+        this.replicaProperties = replicaProperties;
+        this.snapshotTimer = Timer.builder("users.replica.snapshot")
+                .description("Time to load the initial user snapshot")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        syncThread = Thread.ofPlatform().name("user-replica-sync").daemon().start(this::run);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        syncThread.interrupt();
+        try {
+            syncThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        while (running && !replica.isReady()) {
+            try {
+                loadSnapshot();
+            } catch (Exception e) {
+                log.warn("User snapshot failed, retrying in {}: {}", replicaProperties.getRetryInterval(), e.getMessage());
+                if (!sleep(replicaProperties.getRetryInterval().toMillis())) {
+                    return;
+                }
+            }
+        }
+        while (running) {
+            try {
+                eventTailer.poll(replica);
+                replica.markSynced();
+            } catch (Exception e) {
+                log.warn("Reading user events failed", e);
+            }
+            if (!sleep(replicaProperties.getTailInterval().toMillis())) {
+                return;
+            }
+        }
+    }
+
+    private void loadSnapshot() throws Exception {
+        eventTailer.skipToEnd();
+        long started = System.nanoTime();
+        long loaded = snapshotLoader.load(replica);
+        long elapsed = System.nanoTime() - started;
+        snapshotTimer.record(elapsed, TimeUnit.NANOSECONDS);
+        // Events written while the snapshot was paging are applied by the first poll.
+        eventTailer.poll(replica);
+        replica.markReady();
+        log.info("Loaded {} users in {} ms, ~{} bytes per entry",
+                loaded, elapsed / 1_000_000, Math.round(replica.bytesPerEntry()));
+    }
+
+    private boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.smart.order.order_service.replica;
+
+import com.smart.order.order_service.config.UserReplicaProperties;
+import com.smart.order.order_service.dto.UserSummary;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestClient;
+
+import java.util.List;
+
+/**
+ * Pages through user-service's {@code GET /api/users}, following the {@code X-Next-Cursor} header.
+ */
+class UserSnapshotLoader {
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final ParameterizedTypeReference<List<UserSummary>> PAGE = new ParameterizedTypeReference<>() {
+    };
+
+    private final RestClient restClient;
+    private final int pageSize;
+
+    UserSnapshotLoader(RestClient.Builder restClientBuilder, UserReplicaProperties replicaProperties) {
+        this.restClient = restClientBuilder.baseUrl(replicaProperties.getBaseUrl()).build();
+        this.pageSize = replicaProperties.getPageSize();
+    }
+
+    /** Returns the number of users loaded. */
+    long load(UserReplica replica) {
+        long loaded = 0;
+        String after = null;
+        do {
+            String cursor = after;
+            ResponseEntity<List<UserSummary>> page = restClient.get()
+                    .uri(uri -> {
+                        uri.path("/api/users").queryParam("limit", pageSize);
+                        if (cursor != null) {
+                            uri.queryParam("after", cursor);
+                        }
+                        return uri.build();
+                    })
+                    .accept(MediaType.APPLICATION_CBOR, MediaType.APPLICATION_JSON)
+                    .retrieve()
+                    .toEntity(PAGE);
+            List<UserSummary> users = page.getBody() == null ? List.of() : page.getBody();
+            for (UserSummary user : users) {
+                replica.apply(user.getId(), user.getEmail());
+            }
+            loaded += users.size();
+            after = page.getHeaders().getFirst(NEXT_CURSOR_HEADER);
+        } while (after != null);
+        return loaded;
+    }
+}
@@ -0,0 +1,55 @@
+package com.smart.order.order_service.repository;
+
+import com.smart.order.order_service.model.Order;
+import com.smart.order.order_service.model.OrderStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Writes a whole batch of orders with one multi-row INSERT statement.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderBatchInsertRepository {
+    private static final String INSERT_PREFIX =
+            "INSERT INTO orders (id, user_id, sku, quantity, status, created_at) VALUES ";
+    private static final String ROW = "(?, ?, ?, ?, ?, ?)";
+    private static final int COLUMNS = 6;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ConcurrentMap<Integer, String> statements = new ConcurrentHashMap<>();
+
+    public int insertAll(List<Order> orders) {
+        if (orders.isEmpty()) {
+            return 0;
+        }
+        Object[] args = new Object[orders.size() * COLUMNS];
+        int i = 0;
+        for (Order order : orders) {
+            args[i++] = order.getId();
+            args[i++] = order.getUserId();
+            args[i++] = order.getSku();
+            args[i++] = order.getQuantity();
+            args[i++] = OrderStatus.PLACED.name();
+            args[i++] = Timestamp.valueOf(order.getCreatedAt());
+        }
+        return jdbcTemplate.update(statements.computeIfAbsent(orders.size(), OrderBatchInsertRepository::insertSql), args);
+    }
+
+    private static String insertSql(int rows) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + rows * (ROW.length() + 2)).append(INSERT_PREFIX);
+        for (int row = 0; row < rows; row++) {
+            if (row > 0) {
+                sql.append(", ");
+            }
+            sql.append(ROW);
+        }
+        return sql.toString();
+    }
+}
@@ -0,0 +1,64 @@
+package com.smart.order.order_service.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.smart.order.order_service.config.OrderProperties;
+import com.smart.order.order_service.model.Order;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Repository;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+
+/**
+ * Parks accepted orders that could not be inserted, one NDJSON line per order, forced to disk before
+ * the writer lets go of them. The client already holds a 202 and the id, so these must be replayed.
+ */
+@Slf4j
+@Repository
+public class OrderDeadLetterFile implements DisposableBean {
+    private final ObjectWriter writer;
+    private final FileChannel channel;
+
+    public OrderDeadLetterFile(OrderProperties orderProperties, ObjectMapper objectMapper) throws IOException {
+        this.writer = objectMapper.writerFor(DeadLetter.class);
+        Path path = Path.of(orderProperties.getIntake().getDeadLetterFile());
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        this.channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        log.info("Parking orders that fail to insert in {}", path.toAbsolutePath());
+    }
+
+    public synchronized void park(Order order, Exception failure) {
+        try {
+            ByteArrayOutputStream line = new ByteArrayOutputStream(256);
+            writer.writeValue(line, new DeadLetter(order, String.valueOf(failure), LocalDateTime.now()));
+            line.write('\n');
+            ByteBuffer buffer = ByteBuffer.wrap(line.toByteArray());
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        channel.close();
+    }
+
+    public record DeadLetter(Order order, String error, LocalDateTime parkedAt) {
+    }
+}
@@ -0,0 +1,7 @@
+package com.smart.order.order_service.repository;
+
+import com.smart.order.order_service.model.Order;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface OrderRepository extends JpaRepository<Order, Long> {
+}
@@ -0,0 +1,316 @@
+package com.smart.order.order_service.service;
+
+import com.smart.order.order_service.config.OrderProperties;
+import com.smart.order.order_service.model.Order;
+import com.smart.order.order_service.repository.OrderBatchInsertRepository;
+import com.smart.order.order_service.repository.OrderDeadLetterFile;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Owns the bounded intake queue and a single writer thread that drains it, flushing a
+ * multi-row INSERT once {@code batch-size} orders are waiting or {@code flush-interval}
+ * has passed since the first order of the batch arrived.
+ */
+@Slf4j
+@Component
+public class OrderBatchWriter implements SmartLifecycle {
+    /**
+     * Start before and stop after the embedded web server, so in-flight requests can still be queued.
+     * Strictly below both of Boot's web server phases (start/stop at -2048, graceful shutdown at -1024).
+     */
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+    /** Ceiling for the delay between retries of orders that could be neither inserted nor parked. */
+    private static final long MAX_RETRY_BACKOFF_NANOS = TimeUnit.SECONDS.toNanos(5);
+    /** Upper bound on a single blocking poll, so the writer notices stop() promptly. */
+    private static final long POLL_SLICE_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private final OrderBatchInsertRepository insertRepository;
+    private final OrderDeadLetterFile deadLetterFile;
+    private final BlockingQueue<Order> queue;
+    private final ConcurrentMap<Long, Order> pending = new ConcurrentHashMap<>();
+    /** Acknowledged orders that neither the database nor the dead-letter file took yet; kept in pending. */
+    private final List<Order> unsettled = new CopyOnWriteArrayList<>();
+    /** offer() holds the read side, stop() the write side, so no order is queued after the final drain. */
+    private final ReadWriteLock intakeLock = new ReentrantReadWriteLock();
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final int writeAttempts;
+    private final long writeBackoffNanos;
+    private final Timer flushTimer;
+    private final DistributionSummary batchSizes;
+    private final Counter deadLetteredOrders;
+    private volatile boolean running;
+    private Thread writerThread;
+    private long retryBackoffNanos;
+    private long nextRetryAt;
+
+    public OrderBatchWriter(OrderBatchInsertRepository insertRepository, OrderDeadLetterFile deadLetterFile,
+                            OrderProperties orderProperties, MeterRegistry meterRegistry) {
+        OrderProperties.Intake intake = orderProperties.getIntake();
+        this.insertRepository = insertRepository;
+        this.deadLetterFile = deadLetterFile;
+        this.queue = new ArrayBlockingQueue<>(intake.getQueueCapacity());
+        this.batchSize = intake.getBatchSize();
+        this.flushIntervalNanos = intake.getFlushInterval().toNanos();
+        this.writeAttempts = Math.max(1, intake.getWriteAttempts());
+        this.writeBackoffNanos = intake.getWriteBackoff().toNanos();
+        this.flushTimer = Timer.builder("orders.writer.flush")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.batchSizes = DistributionSummary.builder("orders.writer.batch.size").register(meterRegistry);
+        this.deadLetteredOrders = meterRegistry.counter("orders.writer.dead.lettered");
+        meterRegistry.gauge("orders.intake.queue.depth", queue, BlockingQueue::size);
+        meterRegistry.gauge("orders.writer.unsettled", unsettled, List::size);
+    }
+
+    /**
+     * Queues the order without blocking; {@code false} means the queue is full.
+     */
+    public boolean offer(Order order) {
+        intakeLock.readLock().lock();
+        try {
+            if (!running) {
+                return false;
+            }
+            pending.put(order.getId(), order);
+            if (queue.offer(order)) {
+                return true;
+            }
+            pending.remove(order.getId());
+            return false;
+        } finally {
+            intakeLock.readLock().unlock();
+        }
+    }
+
+    public Optional<Order> findPending(long id) {
+        return Optional.ofNullable(pending.get(id));
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        writerThread = Thread.ofPlatform().name("order-batch-writer").start(this::run);
+    }
+
+    @Override
+    public void stop() {
+        // No interrupt: interrupting a thread inside JDBC file I/O can close the H2 store.
+        intakeLock.writeLock().lock();
+        try {
+            running = false;
+        } finally {
+            intakeLock.writeLock().unlock();
+        }
+        try {
+            writerThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    private void run() {
+        while (running) {
+            List<Order> batch = new ArrayList<>(batchSize);
+            try {
+                collect(batch);
+            } catch (InterruptedException e) {
+                log.warn("Order batch writer interrupted, continuing until stopped");
+            }
+            writeSafely(batch);
+            if (!unsettled.isEmpty() && System.nanoTime() - nextRetryAt >= 0) {
+                retryUnsettled();
+            }
+        }
+        List<Order> remaining = new ArrayList<>(batchSize);
+        while (queue.drainTo(remaining, batchSize) > 0) {
+            writeSafely(remaining);
+            remaining = new ArrayList<>(batchSize);
+        }
+        for (int attempt = 1; attempt <= writeAttempts && !unsettled.isEmpty(); attempt++) {
+            pause(retryBackoffNanos);
+            retryUnsettled();
+        }
+        if (!unsettled.isEmpty()) {
+            // Last resort: the full orders go to the log so they can be replayed from it.
+            log.error("Shutting down with {} acknowledged orders neither inserted nor parked: {}",
+                    unsettled.size(), unsettled);
+        }
+    }
+
+    private void collect(List<Order> batch) throws InterruptedException {
+        long deadline = 0;
+        while (running && batch.size() < batchSize) {
+            if (batch.isEmpty()) {
+                Order first = queue.poll(POLL_SLICE_NANOS, TimeUnit.NANOSECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    deadline = System.nanoTime() + flushIntervalNanos;
+                } else if (!unsettled.isEmpty()) {
+                    // Idle: give run() the chance to retry held orders.
+                    return;
+                }
+                continue;
+            }
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0) {
+                return;
+            }
+            Order next = queue.poll(Math.min(remaining, POLL_SLICE_NANOS), TimeUnit.NANOSECONDS);
+            if (next != null) {
+                batch.add(next);
+            }
+        }
+    }
+
+    /**
+     * Never throws: an exception escaping here would end the only writer thread and stall intake for good.
+     * Orders that end up neither inserted nor parked stay pending and are retried.
+     */
+    private void writeSafely(List<Order> batch) {
+        List<Order> failed;
+        try {
+            failed = write(batch);
+        } catch (RuntimeException e) {
+            log.error("Could not write or park orders {}", batch.stream().map(Order::getId).toList(), e);
+            failed = batch;
+        }
+        for (Order order : batch) {
+            if (!failed.contains(order)) {
+                pending.remove(order.getId());
+            }
+        }
+        keepUnsettled(failed);
+    }
+
+    private void keepUnsettled(List<Order> failed) {
+        if (failed.isEmpty()) {
+            return;
+        }
+        unsettled.addAll(failed);
+        retryBackoffNanos = retryBackoffNanos == 0
+                ? writeBackoffNanos
+                : Math.min(retryBackoffNanos * 2, MAX_RETRY_BACKOFF_NANOS);
+        nextRetryAt = System.nanoTime() + retryBackoffNanos;
+        log.error("{} acknowledged orders could be neither inserted nor parked; holding them for retry: {}",
+                unsettled.size(), unsettled.stream().map(Order::getId).toList());
+    }
+
+    private void retryUnsettled() {
+        List<Order> retry = List.copyOf(unsettled);
+        unsettled.clear();
+        List<Order> failed = new ArrayList<>();
+        for (Order order : retry) {
+            if (settle(order)) {
+                pending.remove(order.getId());
+            } else {
+                failed.add(order);
+            }
+        }
+        if (failed.isEmpty()) {
+            retryBackoffNanos = 0;
+        }
+        keepUnsettled(failed);
+    }
+
+    /**
+     * Every order here was acknowledged with 202, so none may be dropped. The batch is retried with
+     * backoff to ride out transient failures; if it still fails, rows are inserted one by one so a bad
+     * row cannot take its neighbours down, and rows that fail on their own go to the dead-letter file.
+     * Returns the orders that could not be parked either.
+     */
+    private List<Order> write(List<Order> batch) {
+        if (batch.isEmpty()) {
+            return List.of();
+        }
+        RuntimeException failure = null;
+        long backoff = writeBackoffNanos;
+        for (int attempt = 1; attempt <= writeAttempts; attempt++) {
+            try {
+                flushTimer.record(() -> {
+                    insertRepository.insertAll(batch);
+                });
+                batchSizes.record(batch.size());
+                return List.of();
+            } catch (RuntimeException e) {
+                failure = e;
+                log.warn("Insert of {} orders failed (attempt {} of {})", batch.size(), attempt, writeAttempts, e);
+            }
+            if (attempt < writeAttempts) {
+                pause(backoff);
+                backoff *= 2;
+            }
+        }
+        if (batch.size() == 1) {
+            return park(batch.get(0), failure) ? List.of() : batch;
+        }
+        log.warn("Falling back to row-by-row inserts for {} orders", batch.size());
+        List<Order> failed = new ArrayList<>();
+        for (Order order : batch) {
+            if (!settle(order)) {
+                failed.add(order);
+            }
+        }
+        return failed;
+    }
+
+    /** Inserts the order on its own, or parks it; {@code false} if neither worked. */
+    private boolean settle(Order order) {
+        try {
+            insertRepository.insertAll(List.of(order));
+            return true;
+        } catch (RuntimeException e) {
+            return park(order, e);
+        }
+    }
+
+    private boolean park(Order order, RuntimeException failure) {
+        try {
+            deadLetterFile.park(order, failure);
+        } catch (RuntimeException e) {
+            log.error("Order {} could not be parked in the dead-letter file either", order.getId(), e);
+            return false;
+        }
+        deadLetteredOrders.increment();
+        log.error("Order {} could not be inserted and was parked in the dead-letter file", order.getId(), failure);
+        return true;
+    }
+
+    private static void pause(long nanos) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            // Same policy as collect(): the writer only stops through stop().
+            log.warn("Order batch writer interrupted during backoff");
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.smart.order.order_service.service;
+
+import com.smart.order.order_service.config.OrderProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Hands out order ids from blocks reserved with one sequence call each, so intake
+ * only touches the database once every {@code id-block-size} orders.
+ */
+@Component
+public class OrderIdAllocator {
+    private static final String NEXT_BLOCK_SQL = "SELECT NEXT VALUE FOR orders_seq";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int blockSize;
+    private final ReentrantLock lock = new ReentrantLock();
+    private long next;
+    private long limit;
+
+    public OrderIdAllocator(JdbcTemplate jdbcTemplate, OrderProperties orderProperties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.blockSize = orderProperties.getIntake().getIdBlockSize();
+    }
+
+    public long nextId() {
+        lock.lock();
+        try {
+            if (next == limit) {
+                Long blockStart = jdbcTemplate.queryForObject(NEXT_BLOCK_SQL, Long.class);
+                next = blockStart;
+                limit = blockStart + blockSize;
+            }
+            return next++;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.smart.order.order_service.service;
+
+import com.smart.order.order_service.client.UserServiceClient;
+import com.smart.order.order_service.config.OrderProperties;
+import com.smart.order.order_service.dto.CreateOrderRequest;
+import com.smart.order.order_service.dto.OrderResponse;
+import com.smart.order.order_service.exception.OrderIntakeOverloadedException;
+import com.smart.order.order_service.exception.OrderNotFoundException;
+import com.smart.order.order_service.exception.UnknownUserException;
+import com.smart.order.order_service.model.Order;
+import com.smart.order.order_service.model.OrderStatus;
+import com.smart.order.order_service.replica.UserReplica;
+import com.smart.order.order_service.repository.OrderRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Service
+public class OrderService {
+    private final OrderRepository orderRepository;
+    private final OrderIdAllocator idAllocator;
+    private final OrderBatchWriter batchWriter;
+    private final OrderProperties orderProperties;
+    private final UserReplica userReplica;
+    private final UserServiceClient userServiceClient;
+    private final Counter acceptedOrders;
+    private final Counter rejectedOrders;
+
+    public OrderService(OrderRepository orderRepository, OrderIdAllocator idAllocator, OrderBatchWriter batchWriter,
+                        OrderProperties orderProperties, UserReplica userReplica, UserServiceClient userServiceClient,
+                        MeterRegistry meterRegistry) {
+        this.orderRepository = orderRepository;
+        this.idAllocator = idAllocator;
+        this.batchWriter = batchWriter;
+        this.orderProperties = orderProperties;
+        this.userReplica = userReplica;
+        this.userServiceClient = userServiceClient;
+        this.acceptedOrders = meterRegistry.counter("orders.intake", "result", "accepted");
+        this.rejectedOrders = meterRegistry.counter("orders.intake", "result", "rejected");
+    }
+
+    public OrderResponse placeOrder(CreateOrderRequest request) {
+        verifyUser(request.getUserId());
+        Order order = Order.builder()
+                .id(idAllocator.nextId())
+                .userId(request.getUserId())
+                .sku(request.getSku())
+                .quantity(request.getQuantity())
+                .status(OrderStatus.RECEIVED)
+                .createdAt(LocalDateTime.now())
+                .build();
+        if (!batchWriter.offer(order)) {
+            rejectedOrders.increment();
+            throw new OrderIntakeOverloadedException("Order intake is at capacity, retry later",
+                    orderProperties.getIntake().getRetryAfter());
+        }
+        acceptedOrders.increment();
+        return OrderResponse.from(order);
+    }
+
+    private void verifyUser(long userId) {
+        if (userReplica.isReady() && userReplica.contains(userId)) {
+            return;
+        }
+        // A replica miss may be a user created since the last tailed event, and a replica that is not
+        // ready yet cannot answer at all, so ask user-service. If it is down too, the order gets a 503.
+        if (userServiceClient.findUser(userId).isEmpty()) {
+            throw new UnknownUserException("No user with id " + userId);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public OrderResponse getOrder(Long id) {
+        return batchWriter.findPending(id)
+                .or(() -> orderRepository.findById(id))
+                .map(OrderResponse::from)
+                .orElseThrow(() -> new OrderNotFoundException("No order with id " + id));
+    }
+}
@@ -0,0 +1,191 @@
+package com.smart.order.order_service.client;
+
+import com.smart.order.order_service.config.UserClientProperties;
+import com.smart.order.order_service.dto.UserSummary;
+import com.smart.order.order_service.exception.UserServiceUnavailableException;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestClient;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("UserServiceClient Tests")
+class UserServiceClientTest {
+
+    private UserServiceStub userService;
+    private UserClientProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        userService = UserServiceStub.start()
+                .withUser(1L, "alice@example.com")
+                .withUser(2L, "bob@example.com");
+        properties = new UserClientProperties();
+        properties.setBaseUrl(userService.baseUrl());
+        properties.setReadTimeout(Duration.ofMillis(300));
+        properties.getCircuitBreaker().setSlidingWindowSize(4);
+        properties.getCircuitBreaker().setMinimumNumberOfCalls(4);
+        properties.getCircuitBreaker().setWaitDurationInOpenState(Duration.ofSeconds(30));
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        userService.close();
+    }
+
+    @Test
+    @DisplayName("Should return the user, or empty when user-service answers 404")
+    void shouldFindUser() {
+        // Given
+        UserServiceClient client = client();
+
+        // When & Then
+        assertThat(client.findUser(1L)).contains(new UserSummary(1L, "alice@example.com"));
+        assertThat(client.findUser(99L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should resolve many users in one lookup request")
+    void shouldFindUsersInOneRequest() {
+        // Given
+        UserServiceClient client = client();
+
+        // When
+        Map<Long, UserSummary> users = client.findUsers(List.of(1L, 2L, 2L, 99L));
+
+        // Then
+        assertThat(users).containsOnlyKeys(1L, 2L);
+        assertThat(users.get(2L).getEmail()).isEqualTo("bob@example.com");
+        assertThat(userService.requestCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should give up once the read timeout passes")
+    void shouldTimeOut() {
+        // Given
+        userService.setLatency(Duration.ofSeconds(2));
+        UserServiceClient client = client();
+
+        // When & Then
+        long started = System.nanoTime();
+        assertThatThrownBy(() -> client.findUser(1L)).isInstanceOf(UserServiceUnavailableException.class);
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofSeconds(2));
+    }
+
+    @Test
+    @DisplayName("Should open the circuit after repeated failures and stop calling user-service")
+    void shouldOpenCircuit() {
+        // Given
+        userService.failWith(500);
+        UserServiceClient client = client();
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> client.findUser(1L)).isInstanceOf(UserServiceUnavailableException.class);
+        }
+
+        // When & Then
+        assertThatThrownBy(() -> client.findUser(1L))
+                .isInstanceOf(UserServiceUnavailableException.class)
+                .hasCauseInstanceOf(CallNotPermittedException.class)
+                .extracting("retryAfter").isEqualTo(Duration.ofSeconds(30));
+        assertThat(userService.requestCount()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should not count 404s as failures")
+    void shouldNotOpenCircuitOnNotFound() {
+        // Given
+        UserServiceClient client = client();
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            client.findUser(99L);
+        }
+
+        // Then
+        assertThat(client.findUser(1L)).isPresent();
+    }
+
+    @Test
+    @DisplayName("Should share one request between concurrent lookups of the same user")
+    void shouldCoalesceLookups() throws Exception {
+        // Given
+        userService.hold();
+        UserServiceClient client = client();
+        ExecutorService callers = Executors.newFixedThreadPool(20);
+        try {
+            List<Future<Optional<UserSummary>>> results = new ArrayList<>();
+            results.add(callers.submit(() -> client.findUser(2L)));
+            awaitUntil(() -> userService.requestCount() == 1);
+
+            // When
+            for (int i = 1; i < 20; i++) {
+                results.add(callers.submit(() -> client.findUser(2L)));
+            }
+            awaitUntil(() -> meterRegistry.counter("users.client.coalesced").count() == 19);
+            userService.release();
+
+            // Then
+            for (Future<Optional<UserSummary>> result : results) {
+                assertThat(result.get()).contains(new UserSummary(2L, "bob@example.com"));
+            }
+            assertThat(userService.requestCount()).isEqualTo(1);
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should refuse calls beyond the bulkhead limit without waiting")
+    void shouldLimitConcurrentCalls() throws Exception {
+        // Given
+        properties.setReadTimeout(Duration.ofSeconds(5));
+        properties.getBulkhead().setMaxConcurrentCalls(1);
+        userService.hold();
+        UserServiceClient client = client();
+        ExecutorService callers = Executors.newSingleThreadExecutor();
+        try {
+            Future<Optional<UserSummary>> first = callers.submit(() -> client.findUser(1L));
+            awaitUntil(() -> userService.requestCount() == 1);
+
+            // When & Then
+            assertThatThrownBy(() -> client.findUser(2L))
+                    .isInstanceOf(UserServiceUnavailableException.class)
+                    .hasCauseInstanceOf(BulkheadFullException.class);
+            userService.release();
+            assertThat(first.get()).isPresent();
+            assertThat(userService.requestCount()).isEqualTo(1);
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    private UserServiceClient client() {
+        return new UserServiceClient(RestClient.builder(), properties, meterRegistry);
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met within 10s").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+}
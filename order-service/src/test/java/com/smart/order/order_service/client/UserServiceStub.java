@@ -0,0 +1,139 @@
+package com.smart.order.order_service.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Local stand-in for user-service's {@code GET /api/users/{id}} and {@code POST /api/users/lookup}
+ * with switchable latency,
+ * failures and a gate that holds requests until released.
+ */
+class UserServiceStub implements AutoCloseable {
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final Map<Long, String> users = new ConcurrentHashMap<>();
+    private final AtomicInteger requests = new AtomicInteger();
+    private volatile Duration latency = Duration.ZERO;
+    private volatile int failureStatus;
+    private volatile CountDownLatch gate;
+
+    private UserServiceStub() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(executor);
+        server.createContext("/api/users/", this::handle);
+        server.start();
+    }
+
+    static UserServiceStub start() throws IOException {
+        return new UserServiceStub();
+    }
+
+    String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    UserServiceStub withUser(long id, String email) {
+        users.put(id, email);
+        return this;
+    }
+
+    void setLatency(Duration latency) {
+        this.latency = latency;
+    }
+
+    void failWith(int status) {
+        this.failureStatus = status;
+    }
+
+    void hold() {
+        gate = new CountDownLatch(1);
+    }
+
+    void release() {
+        gate.countDown();
+    }
+
+    int requestCount() {
+        return requests.get();
+    }
+
+    @Override
+    public void close() {
+        if (gate != null) {
+            gate.countDown();
+        }
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        try {
+            CountDownLatch currentGate = gate;
+            if (currentGate != null) {
+                currentGate.await();
+            }
+            Thread.sleep(latency.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        String path = exchange.getRequestURI().getPath();
+        if (failureStatus != 0) {
+            respond(exchange, failureStatus, "{\"title\":\"Internal Server Error\"}");
+            return;
+        }
+        if (path.endsWith("/lookup")) {
+            respond(exchange, 200, lookup(JSON.readTree(exchange.getRequestBody())));
+            return;
+        }
+        long id = Long.parseLong(path.substring(path.lastIndexOf('/') + 1));
+        String email = users.get(id);
+        if (email == null) {
+            respond(exchange, 404, "{\"title\":\"User not found\"}");
+        } else {
+            respond(exchange, 200, "{\"id\":" + id + ",\"name\":\"User " + id + "\",\"email\":\"" + email + "\"}");
+        }
+    }
+
+    private String lookup(JsonNode request) {
+        StringBuilder byId = new StringBuilder();
+        StringBuilder missingIds = new StringBuilder();
+        for (JsonNode idNode : request.path("ids")) {
+            long id = idNode.asLong();
+            String email = users.get(id);
+            if (email == null) {
+                missingIds.append(missingIds.isEmpty() ? "" : ",").append(id);
+            } else {
+                byId.append(byId.isEmpty() ? "" : ",")
+                        .append("\"").append(id).append("\":{\"id\":").append(id)
+                        .append(",\"email\":\"").append(email).append("\"}");
+            }
+        }
+        return "{\"byId\":{" + byId + "},\"byEmail\":{},\"missingIds\":[" + missingIds + "],\"missingEmails\":[]}";
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.smart.order.order_service.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smart.order.order_service.repository.OrderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("OrderController Integration Tests")
+class OrderControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should accept an order and persist it in the background")
+    void shouldAcceptAndPersistOrder() throws Exception {
+        // When
+        String body = mockMvc.perform(post("/api/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"userId\":7,\"sku\":\"SKU-1\",\"quantity\":2}"))
+                .andExpect(status().isAccepted())
+                .andReturn().getResponse().getContentAsString();
+        long id = objectMapper.readTree(body).get("id").asLong();
+
+        // Then
+        awaitPersisted(1);
+        mockMvc.perform(get("/api/orders/" + id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("PLACED"))
+                .andExpect(jsonPath("$.sku").value("SKU-1"))
+                .andExpect(jsonPath("$.quantity").value(2));
+    }
+
+    @Test
+    @DisplayName("Should persist every accepted order exactly once under concurrent intake")
+    void shouldPersistConcurrentOrders() throws Exception {
+        // Given
+        int orders = 2_000;
+        List<Future<Long>> ids = new ArrayList<>();
+
+        // When
+        try (ExecutorService executor = Executors.newFixedThreadPool(16)) {
+            for (int i = 0; i < orders; i++) {
+                int n = i;
+                ids.add(executor.submit(() -> {
+                    String body = mockMvc.perform(post("/api/orders")
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .content("{\"userId\":" + (n + 1) + ",\"sku\":\"SKU-" + n % 10 + "\",\"quantity\":1}"))
+                            .andExpect(status().isAccepted())
+                            .andReturn().getResponse().getContentAsString();
+                    JsonNode order = objectMapper.readTree(body);
+                    return order.get("id").asLong();
+                }));
+            }
+        }
+
+        // Then
+        Set<Long> unique = new HashSet<>();
+        for (Future<Long> id : ids) {
+            unique.add(id.get());
+        }
+        assertThat(unique).hasSize(orders);
+        awaitPersisted(orders);
+        assertThat(orderRepository.findAllById(unique)).hasSize(orders);
+    }
+
+    private void awaitPersisted(long expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (orderRepository.count() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(orderRepository.count()).isEqualTo(expected);
+    }
+}
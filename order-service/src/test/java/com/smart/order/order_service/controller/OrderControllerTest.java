@@ -0,0 +1,169 @@
+package com.smart.order.order_service.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.dataformat.cbor.CBORMapper;
+import com.smart.order.order_service.dto.OrderResponse;
+import com.smart.order.order_service.exception.OrderIntakeOverloadedException;
+import com.smart.order.order_service.exception.OrderNotFoundException;
+import com.smart.order.order_service.exception.UnknownUserException;
+import com.smart.order.order_service.exception.UserServiceUnavailableException;
+import com.smart.order.order_service.model.OrderStatus;
+import com.smart.order.order_service.service.OrderService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(OrderController.class)
+@ActiveProfiles("test")
+@DisplayName("OrderController Tests")
+class OrderControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private OrderService orderService;
+
+    @Test
+    @DisplayName("Should accept order with 202 and a location")
+    void shouldAcceptOrder() throws Exception {
+        // Given
+        when(orderService.placeOrder(any())).thenReturn(order(1001L, OrderStatus.RECEIVED));
+
+        // When & Then
+        mockMvc.perform(post("/api/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"userId\":7,\"sku\":\"SKU-1\",\"quantity\":2}"))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/api/orders/1001"))
+                .andExpect(jsonPath("$.id").value(1001))
+                .andExpect(jsonPath("$.status").value("RECEIVED"));
+    }
+
+    @Test
+    @DisplayName("Should return 400 for invalid order")
+    void shouldRejectInvalidOrder() throws Exception {
+        // When & Then
+        mockMvc.perform(post("/api/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"userId\":-1,\"sku\":\"\",\"quantity\":0}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.title").value("Validation Error"));
+    }
+
+    @Test
+    @DisplayName("Should return 429 with Retry-After when intake is full")
+    void shouldReturn429WhenOverloaded() throws Exception {
+        // Given
+        when(orderService.placeOrder(any()))
+                .thenThrow(new OrderIntakeOverloadedException("Order intake is at capacity, retry later", Duration.ofMillis(1500)));
+
+        // When & Then
+        mockMvc.perform(post("/api/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"userId\":7,\"sku\":\"SKU-1\",\"quantity\":2}"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "2"))
+                .andExpect(jsonPath("$.title").value("Too many orders"));
+    }
+
+    @Test
+    @DisplayName("Should return 422 when the user is unknown")
+    void shouldReturn422ForUnknownUser() throws Exception {
+        // Given
+        when(orderService.placeOrder(any())).thenThrow(new UnknownUserException("No user with id 7"));
+
+        // When & Then
+        mockMvc.perform(post("/api/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"userId\":7,\"sku\":\"SKU-1\",\"quantity\":2}"))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.title").value("Unknown user"));
+    }
+
+    @Test
+    @DisplayName("Should return 503 with Retry-After when user-service cannot be reached")
+    void shouldReturn503WhenUserServiceUnavailable() throws Exception {
+        // Given
+        when(orderService.placeOrder(any())).thenThrow(new UserServiceUnavailableException(
+                "User service circuit is open", Duration.ofSeconds(5), null));
+
+        // When & Then
+        mockMvc.perform(post("/api/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"userId\":7,\"sku\":\"SKU-1\",\"quantity\":2}"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "5"))
+                .andExpect(jsonPath("$.title").value("User service unavailable"));
+    }
+
+    @Test
+    @DisplayName("Should return order by id")
+    void shouldReturnOrderById() throws Exception {
+        // Given
+        when(orderService.getOrder(1001L)).thenReturn(order(1001L, OrderStatus.PLACED));
+
+        // When & Then
+        mockMvc.perform(get("/api/orders/1001"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.sku").value("SKU-1"))
+                .andExpect(jsonPath("$.status").value("PLACED"));
+    }
+
+    @Test
+    @DisplayName("Should return order as CBOR when asked for application/cbor")
+    void shouldReturnOrderAsCbor() throws Exception {
+        // Given
+        when(orderService.getOrder(1001L)).thenReturn(order(1001L, OrderStatus.PLACED));
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/orders/1001").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn();
+
+        // Then
+        JsonNode body = new CBORMapper().readTree(result.getResponse().getContentAsByteArray());
+        assertThat(body.get("id").asLong()).isEqualTo(1001L);
+        assertThat(body.get("status").asText()).isEqualTo("PLACED");
+    }
+
+    @Test
+    @DisplayName("Should return 404 for unknown order")
+    void shouldReturn404ForUnknownOrder() throws Exception {
+        // Given
+        when(orderService.getOrder(42L)).thenThrow(new OrderNotFoundException("No order with id 42"));
+
+        // When & Then
+        mockMvc.perform(get("/api/orders/42"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.title").value("Order not found"));
+    }
+
+    private static OrderResponse order(Long id, OrderStatus status) {
+        return OrderResponse.builder()
+                .id(id)
+                .userId(7L)
+                .sku("SKU-1")
+                .quantity(2)
+                .status(status)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,73 @@
+package com.smart.order.order_service.replica;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CompactUserMap Tests")
+class CompactUserMapTest {
+
+    @Test
+    @DisplayName("Should store, overwrite and look up emails by id")
+    void shouldPutAndGet() {
+        // Given
+        CompactUserMap map = new CompactUserMap(16);
+
+        // When
+        map.put(1L, "first@example.com");
+        map.put(2L, "second@example.com");
+        map.put(1L, "renamed@example.com");
+
+        // Then
+        assertThat(map.size()).isEqualTo(2);
+        assertThat(map.getEmail(1L)).contains("renamed@example.com");
+        assertThat(map.contains(2L)).isTrue();
+        assertThat(map.contains(3L)).isFalse();
+        assertThat(map.getEmail(0L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should keep every entry across resizes")
+    void shouldGrow() {
+        // Given
+        CompactUserMap map = new CompactUserMap(16);
+        int users = 100_000;
+
+        // When
+        for (long id = 1; id <= users; id++) {
+            map.put(id * 7, "user" + id + "@example.com");
+        }
+
+        // Then
+        assertThat(map.size()).isEqualTo(users);
+        for (long id = 1; id <= users; id++) {
+            assertThat(map.getEmail(id * 7)).contains("user" + id + "@example.com");
+        }
+        assertThat(map.contains(8L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should stay well under the footprint of a HashMap of boxed entries")
+    void shouldBeCompact() {
+        // Given
+        CompactUserMap map = new CompactUserMap(100_000);
+
+        // When
+        for (long id = 1; id <= 100_000; id++) {
+            map.put(id, "user" + id + "@example.com");
+        }
+
+        // Then - 8 byte key + 4 byte reference per slot plus a ~40 byte array per email
+        assertThat(map.estimatedBytes() / map.size()).isLessThan(72);
+    }
+
+    @Test
+    @DisplayName("Should reject non-positive ids")
+    void shouldRejectNonPositiveIds() {
+        // When & Then
+        assertThatThrownBy(() -> new CompactUserMap(16).put(0L, "zero@example.com"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,163 @@
+package com.smart.order.order_service.replica;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smart.order.order_service.config.UserReplicaProperties;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs the synchronizer against a stand-in for user-service's paging API and a temporary
+ * events file.
+ */
+@DisplayName("UserReplicaSynchronizer Tests")
+class UserReplicaSynchronizerTest {
+
+    @TempDir
+    Path directory;
+
+    private HttpServer userService;
+    private Path eventsFile;
+    private UserReplica replica;
+    private UserReplicaSynchronizer synchronizer;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        userService = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        userService.createContext("/api/users", exchange -> {
+            String query = exchange.getRequestURI().getQuery();
+            String body;
+            if (query.contains("after=")) {
+                body = "[{\"id\":3,\"name\":\"Carol\",\"email\":\"carol@example.com\"}]";
+            } else {
+                body = "[{\"id\":1,\"name\":\"Alice\",\"email\":\"alice@example.com\"},"
+                        + "{\"id\":2,\"name\":\"Bob\",\"email\":\"bob@example.com\"}]";
+                exchange.getResponseHeaders().add("X-Next-Cursor", "2");
+            }
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        });
+        userService.start();
+
+        eventsFile = directory.resolve("user-events.ndjson");
+        Files.writeString(eventsFile, event(1, "alice@example.com"));
+
+        UserReplicaProperties properties = new UserReplicaProperties();
+        properties.setBaseUrl("http://localhost:" + userService.getAddress().getPort());
+        properties.setPageSize(2);
+        properties.setEventsFile(eventsFile.toString());
+        properties.setTailInterval(Duration.ofMillis(10));
+        properties.setRetryInterval(Duration.ofMillis(50));
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        replica = new UserReplica(properties, meterRegistry);
+        synchronizer = new UserReplicaSynchronizer(replica, RestClient.builder(), new ObjectMapper(), properties,
+                meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (synchronizer.isRunning()) {
+            synchronizer.stop();
+        }
+        userService.stop(0);
+    }
+
+    @Test
+    @DisplayName("Should load every snapshot page and then apply appended events")
+    void shouldLoadSnapshotThenTailEvents() throws Exception {
+        // When
+        synchronizer.start();
+        awaitUntil(() -> replica.isReady());
+
+        // Then
+        assertThat(replica.findEmail(1L)).contains("alice@example.com");
+        assertThat(replica.findEmail(3L)).contains("carol@example.com");
+        assertThat(replica.contains(4L)).isFalse();
+
+        // When
+        Files.writeString(eventsFile, event(4, "dave@example.com"), StandardOpenOption.APPEND);
+
+        // Then
+        awaitUntil(() -> replica.contains(4L));
+        assertThat(replica.findEmail(4L)).contains("dave@example.com");
+    }
+
+    @Test
+    @DisplayName("Should retry the snapshot until user-service answers")
+    void shouldRetryUntilUserServiceIsUp() throws Exception {
+        // Given
+        userService.stop(0);
+        int port = userService.getAddress().getPort();
+        synchronizer.start();
+        Thread.sleep(150);
+        assertThat(replica.isReady()).isFalse();
+
+        // When
+        userService = HttpServer.create(new InetSocketAddress("localhost", port), 0);
+        userService.createContext("/api/users", exchange -> {
+            byte[] bytes = "[{\"id\":9,\"email\":\"late@example.com\"}]".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        });
+        userService.start();
+
+        // Then
+        awaitUntil(() -> replica.isReady());
+        assertThat(replica.contains(9L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should refuse to start without an events file")
+    void shouldRequireEventsFile() {
+        // Given
+        UserReplicaProperties properties = new UserReplicaProperties();
+        properties.setEnabled(true);
+
+        // When / Then
+        assertThatThrownBy(() -> new UserReplicaSynchronizer(replica, RestClient.builder(), new ObjectMapper(),
+                properties, new SimpleMeterRegistry()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("events-file");
+    }
+
+    private static String event(long userId, String email) {
+        return "{\"eventId\":" + userId + ",\"type\":\"UserCreated\",\"aggregateType\":\"User\",\"aggregateId\":\""
+                + userId + "\",\"occurredAt\":\"" + Instant.now() + "\",\"payload\":{\"id\":" + userId
+                + ",\"email\":\"" + email + "\"}}\n";
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met within 10s").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,270 @@
+package com.smart.order.order_service.service;
+
+import com.smart.order.order_service.config.OrderProperties;
+import com.smart.order.order_service.model.Order;
+import com.smart.order.order_service.model.OrderStatus;
+import com.smart.order.order_service.repository.OrderBatchInsertRepository;
+import com.smart.order.order_service.repository.OrderDeadLetterFile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.TransientDataAccessResourceException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("OrderBatchWriter Tests")
+class OrderBatchWriterTest {
+
+    private final OrderBatchInsertRepository insertRepository = mock(OrderBatchInsertRepository.class);
+    private final OrderDeadLetterFile deadLetterFile = mock(OrderDeadLetterFile.class);
+    private final OrderProperties properties = new OrderProperties();
+    private OrderBatchWriter writer;
+
+    @AfterEach
+    void tearDown() {
+        if (writer != null && writer.isRunning()) {
+            writer.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Should flush a full batch without waiting for the interval")
+    @SuppressWarnings("unchecked")
+    void shouldFlushWhenBatchIsFull() {
+        // Given
+        writer = writer(100, 3, Duration.ofMinutes(1));
+        writer.start();
+
+        // When
+        for (long id = 1; id <= 3; id++) {
+            assertThat(writer.offer(order(id))).isTrue();
+        }
+
+        // Then
+        ArgumentCaptor<List<Order>> batch = ArgumentCaptor.forClass(List.class);
+        verify(insertRepository, timeout(1000)).insertAll(batch.capture());
+        assertThat(batch.getValue()).extracting(Order::getId).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("Should flush a partial batch once the interval has passed")
+    void shouldFlushPartialBatchAfterInterval() {
+        // Given
+        writer = writer(100, 500, Duration.ofMillis(20));
+        writer.start();
+
+        // When
+        writer.offer(order(1));
+
+        // Then
+        verify(insertRepository, timeout(1000)).insertAll(List.of(order(1)));
+    }
+
+    @Test
+    @DisplayName("Should reject orders once the queue is full")
+    void shouldRejectWhenQueueIsFull() throws InterruptedException {
+        // Given
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(insertRepository.insertAll(anyList())).thenAnswer(invocation -> {
+            writing.countDown();
+            release.await();
+            return 1;
+        });
+        writer = writer(2, 1, Duration.ofMillis(1));
+        writer.start();
+        writer.offer(order(1));
+        writing.await();
+
+        // When
+        boolean second = writer.offer(order(2));
+        boolean third = writer.offer(order(3));
+        boolean fourth = writer.offer(order(4));
+        release.countDown();
+
+        // Then
+        assertThat(second).isTrue();
+        assertThat(third).isTrue();
+        assertThat(fourth).isFalse();
+        assertThat(writer.findPending(4)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should keep orders visible until they are written and flush the rest on stop")
+    void shouldFlushRemainingOrdersOnStop() {
+        // Given
+        writer = writer(100, 500, Duration.ofMinutes(1));
+        writer.start();
+        writer.offer(order(1));
+        assertThat(writer.findPending(1)).isPresent();
+
+        // When
+        writer.stop();
+
+        // Then
+        verify(insertRepository).insertAll(List.of(order(1)));
+        assertThat(writer.findPending(1)).isEmpty();
+        assertThat(writer.offer(order(2))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should retry a failed batch and write it once the database recovers")
+    void shouldRetryFailedBatch() {
+        // Given
+        when(insertRepository.insertAll(anyList()))
+                .thenThrow(new TransientDataAccessResourceException("connection reset"))
+                .thenReturn(2);
+        writer = writer(100, 2, Duration.ofMinutes(1));
+        writer.start();
+
+        // When
+        writer.offer(order(1));
+        writer.offer(order(2));
+
+        // Then
+        verify(insertRepository, timeout(1000).times(2)).insertAll(List.of(order(1), order(2)));
+        verify(deadLetterFile, never()).park(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should insert row by row after repeated batch failures and park only the rows that still fail")
+    void shouldFallBackToRowByRowAndParkBadRows() {
+        // Given
+        DataIntegrityViolationException badRow = new DataIntegrityViolationException("duplicate id 2");
+        when(insertRepository.insertAll(List.of(order(1), order(2), order(3)))).thenThrow(badRow);
+        when(insertRepository.insertAll(List.of(order(2)))).thenThrow(badRow);
+        writer = writer(100, 3, Duration.ofMinutes(1));
+        writer.start();
+
+        // When
+        writer.offer(order(1));
+        writer.offer(order(2));
+        writer.offer(order(3));
+
+        // Then
+        verify(deadLetterFile, timeout(1000)).park(order(2), badRow);
+        verify(insertRepository, times(3)).insertAll(List.of(order(1), order(2), order(3)));
+        verify(insertRepository).insertAll(List.of(order(1)));
+        verify(insertRepository).insertAll(List.of(order(3)));
+        verify(deadLetterFile, never()).park(eq(order(1)), any());
+        verify(deadLetterFile, never()).park(eq(order(3)), any());
+    }
+
+    @Test
+    @DisplayName("Should keep the writer thread alive when the insert throws a non-database exception")
+    void shouldSurviveUnexpectedExceptions() {
+        // Given
+        when(insertRepository.insertAll(List.of(order(1)))).thenThrow(new IllegalStateException("boom"));
+        writer = writer(100, 1, Duration.ofMillis(1));
+        writer.start();
+        writer.offer(order(1));
+        verify(deadLetterFile, timeout(1000)).park(eq(order(1)), any());
+
+        // When
+        writer.offer(order(2));
+
+        // Then
+        verify(insertRepository, timeout(1000)).insertAll(List.of(order(2)));
+        assertThat(writer.isRunning()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should keep an order pending and retry it when the dead-letter file fails too")
+    void shouldRetryOrdersThatCouldNotBeParked() {
+        // Given
+        when(insertRepository.insertAll(List.of(order(1))))
+                .thenThrow(new IllegalStateException("boom"))
+                .thenThrow(new IllegalStateException("boom"))
+                .thenReturn(1);
+        doThrow(new UncheckedIOException(new IOException("disk full"))).when(deadLetterFile).park(any(), any());
+        properties.getIntake().setWriteAttempts(1);
+        writer = writer(100, 1, Duration.ofMillis(1));
+        writer.start();
+
+        // When
+        writer.offer(order(1));
+        verify(deadLetterFile, timeout(1000)).park(eq(order(1)), any());
+        assertThat(writer.findPending(1)).isPresent();
+
+        // Then
+        verify(insertRepository, timeout(1000).times(3)).insertAll(List.of(order(1)));
+        awaitNotPending(1);
+    }
+
+    @Test
+    @DisplayName("Should never acknowledge an order that arrives after stop")
+    @SuppressWarnings("unchecked")
+    void shouldRejectOffersRacingStop() throws Exception {
+        // Given
+        writer = writer(10_000, 500, Duration.ofMillis(1));
+        writer.start();
+        List<Long> acknowledged = new CopyOnWriteArrayList<>();
+        Thread producer = Thread.ofPlatform().start(() -> {
+            for (long id = 1; id <= 100_000; id++) {
+                if (writer.offer(order(id))) {
+                    acknowledged.add(id);
+                }
+            }
+        });
+        Thread.sleep(5);
+
+        // When
+        writer.stop();
+        producer.join();
+
+        // Then
+        ArgumentCaptor<List<Order>> written = ArgumentCaptor.forClass(List.class);
+        verify(insertRepository, atLeast(0)).insertAll(written.capture());
+        assertThat(written.getAllValues().stream().flatMap(List::stream).map(Order::getId).toList())
+                .containsAll(acknowledged);
+    }
+
+    private void awaitNotPending(long id) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (writer.findPending(id).isPresent()) {
+            assertThat(System.nanoTime()).as("order %d still pending after 5s", id).isLessThan(deadline);
+            Thread.onSpinWait();
+        }
+    }
+
+    private OrderBatchWriter writer(int queueCapacity, int batchSize, Duration flushInterval) {
+        properties.getIntake().setQueueCapacity(queueCapacity);
+        properties.getIntake().setBatchSize(batchSize);
+        properties.getIntake().setFlushInterval(flushInterval);
+        properties.getIntake().setWriteBackoff(Duration.ofMillis(1));
+        return new OrderBatchWriter(insertRepository, deadLetterFile, properties, new SimpleMeterRegistry());
+    }
+
+    private static Order order(long id) {
+        return Order.builder()
+                .id(id)
+                .userId(7L)
+                .sku("SKU-1")
+                .quantity(1)
+                .status(OrderStatus.RECEIVED)
+                .createdAt(LocalDateTime.of(2025, 1, 1, 0, 0))
+                .build();
+    }
+}
@@ -0,0 +1,107 @@
+package com.smart.order.order_service.service;
+
+import com.smart.order.order_service.client.UserServiceClient;
+import com.smart.order.order_service.config.OrderProperties;
+import com.smart.order.order_service.dto.CreateOrderRequest;
+import com.smart.order.order_service.dto.UserSummary;
+import com.smart.order.order_service.exception.UnknownUserException;
+import com.smart.order.order_service.exception.UserServiceUnavailableException;
+import com.smart.order.order_service.replica.UserReplica;
+import com.smart.order.order_service.repository.OrderRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("OrderService Tests")
+class OrderServiceTest {
+
+    private final OrderIdAllocator idAllocator = mock(OrderIdAllocator.class);
+    private final OrderBatchWriter batchWriter = mock(OrderBatchWriter.class);
+    private final UserReplica userReplica = mock(UserReplica.class);
+    private final UserServiceClient userServiceClient = mock(UserServiceClient.class);
+    private OrderService orderService;
+
+    @BeforeEach
+    void setUp() {
+        when(idAllocator.nextId()).thenReturn(1L);
+        when(batchWriter.offer(any())).thenReturn(true);
+        orderService = new OrderService(mock(OrderRepository.class), idAllocator, batchWriter, new OrderProperties(),
+                userReplica, userServiceClient, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("Should accept a user known to the replica without calling user-service")
+    void shouldAcceptUserFromReplica() {
+        // Given
+        when(userReplica.isReady()).thenReturn(true);
+        when(userReplica.contains(7L)).thenReturn(true);
+
+        // When
+        orderService.placeOrder(request(7L));
+
+        // Then
+        verify(userServiceClient, never()).findUser(anyLong());
+        verify(batchWriter).offer(any());
+    }
+
+    @Test
+    @DisplayName("Should ask user-service while the replica is not ready")
+    void shouldAskUserServiceWhileReplicaIsNotReady() {
+        // Given
+        when(userReplica.isReady()).thenReturn(false);
+        when(userServiceClient.findUser(7L)).thenReturn(Optional.of(new UserSummary(7L, "alice@example.com")));
+
+        // When
+        orderService.placeOrder(request(7L));
+
+        // Then
+        verify(userServiceClient).findUser(7L);
+        verify(batchWriter).offer(any());
+    }
+
+    @Test
+    @DisplayName("Should reject an unknown user while the replica is not ready")
+    void shouldRejectUnknownUserWhileReplicaIsNotReady() {
+        // Given
+        when(userReplica.isReady()).thenReturn(false);
+        when(userServiceClient.findUser(7L)).thenReturn(Optional.empty());
+
+        // When / Then
+        assertThatThrownBy(() -> orderService.placeOrder(request(7L))).isInstanceOf(UnknownUserException.class);
+        verify(batchWriter, never()).offer(any());
+    }
+
+    @Test
+    @DisplayName("Should not accept the order when neither the replica nor user-service can answer")
+    void shouldFailClosedWhenUserCannotBeVerified() {
+        // Given
+        when(userReplica.isReady()).thenReturn(false);
+        when(userServiceClient.findUser(7L)).thenThrow(
+                new UserServiceUnavailableException("down", Duration.ofSeconds(1), null));
+
+        // When / Then
+        assertThatThrownBy(() -> orderService.placeOrder(request(7L)))
+                .isInstanceOf(UserServiceUnavailableException.class);
+        verify(batchWriter, never()).offer(any());
+    }
+
+    private static CreateOrderRequest request(long userId) {
+        CreateOrderRequest request = new CreateOrderRequest();
+        request.setUserId(userId);
+        request.setSku("SKU-1");
+        request.setQuantity(1);
+        return request;
+    }
+}
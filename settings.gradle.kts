@@ -1,5 +1,7 @@
 rootProject.name = "smart-order"
 
 include("user-service")
-//include("order-service")
-//include("inventory-service")
\ No newline at end of file
+include("benchmarks")
+include("order-service")
+include("inventory-service")
+include("load-test")
\ No newline at end of file
@@ -7,8 +7,16 @@ dependencies {
 	implementation("org.springframework.boot:spring-boot-starter-web")
 	implementation("org.springframework.boot:spring-boot-starter-data-jpa")
 	implementation("org.springframework.boot:spring-boot-starter-validation")
+	implementation("org.springframework.boot:spring-boot-starter-cache")
+	implementation("org.springframework.boot:spring-boot-starter-actuator")
+	implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-cbor")
+	implementation("org.springframework.boot:spring-boot-starter-aop")
+	implementation("com.github.ben-manes.caffeine:caffeine")
+	implementation("com.fasterxml.jackson.module:jackson-module-blackbird")
 
 	runtimeOnly("com.h2database:h2")
+	runtimeOnly("org.postgresql:postgresql")
+	runtimeOnly("io.micrometer:micrometer-registry-prometheus")
 	implementation("org.liquibase:liquibase-core")
 
 	// Testing dependencies
@@ -19,5 +27,24 @@ dependencies {
 }
 
 tasks.test {
-	useJUnitPlatform()
+	useJUnitPlatform {
+		// UserQueryPlanTest seeds a million rows; it runs under queryPlanTest instead.
+		excludeTags("query-plan")
+	}
 }
+
+tasks.register<Test>("queryPlanTest") {
+	description = "Checks the EXPLAIN plans of the user repository queries against a seeded users table."
+	group = "verification"
+	val test = the<SourceSetContainer>()["test"]
+	testClassesDirs = test.output.classesDirs
+	classpath = test.runtimeClasspath
+	useJUnitPlatform {
+		includeTags("query-plan")
+	}
+	providers.systemProperty("explain.rows").orNull?.let { systemProperty("explain.rows", it) }
+	shouldRunAfter(tasks.test)
+}
+
+// Request that measureStartup times: the first one the service actually serves, not just the health check.
+extra["startupProbePath"] = "/api/users?limit=1"
@@ -0,0 +1,28 @@
+package com.smartorder.userservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "smartorder.outbox")
+public class OutboxProperties {
+    /** {@code file} or {@code memory}. */
+    private String sink = "file";
+    private final Relay relay = new Relay();
+    private final File file = new File();
+
+    @Data
+    public static class Relay {
+        private boolean enabled = true;
+        private Duration interval = Duration.ofMillis(100);
+        private int batchSize = 500;
+    }
+
+    @Data
+    public static class File {
+        /** Consumers such as order-service tail this file, so it must be on storage they can read. */
+        private String path = System.getProperty("user.home") + "/.smartorder/events/user-events.ndjson";
+    }
+}
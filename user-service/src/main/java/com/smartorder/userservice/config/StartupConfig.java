@@ -0,0 +1,65 @@
+package com.smartorder.userservice.config;
+
+import com.smartorder.userservice.outbox.OutboxRelay;
+import liquibase.integration.spring.SpringLiquibase;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Startup shortcuts used by the {@code fast-start} profile. Both are inert unless their property is set,
+ * so the bean definitions are the same with and without the profile, as AOT processing requires.
+ */
+@Slf4j
+@Configuration
+public class StartupConfig {
+
+    /** The outbox relay is only driven by {@code @Scheduled}; lazily it would never be created. */
+    @Bean
+    static LazyInitializationExcludeFilter eagerBackgroundWork() {
+        return LazyInitializationExcludeFilter.forBeanTypes(OutboxRelay.class);
+    }
+
+    /**
+     * With {@code smartorder.liquibase.skip-when-tagged} set, skips the Liquibase run when the most recently
+     * executed changeset carries that tag, saving the changelog parse and checksum validation on every boot.
+     * Anything applied after the tag, or a tag that was never applied, lets Liquibase run as usual. The tag
+     * must be the last changeset of the changelog; move it whenever a changeset is added.
+     */
+    @Bean
+    static BeanPostProcessor skipTaggedLiquibase(@Value("${smartorder.liquibase.skip-when-tagged:}") String tag) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (!tag.isBlank() && bean instanceof SpringLiquibase liquibase && isTagged(liquibase.getDataSource(), tag)) {
+                    log.info("Schema already at tag {}, skipping Liquibase", tag);
+                    liquibase.setShouldRun(false);
+                }
+                return bean;
+            }
+        };
+    }
+
+    private static boolean isTagged(DataSource dataSource, String tag) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(
+                     "SELECT tag FROM databasechangelog ORDER BY orderexecuted DESC")) {
+            statement.setMaxRows(1);
+            try (ResultSet rows = statement.executeQuery()) {
+                return rows.next() && tag.equals(rows.getString(1));
+            }
+        } catch (SQLException e) {
+            // No changelog table yet: first boot against an empty database.
+            return false;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.smartorder.userservice.config;
+
+import jakarta.validation.constraints.AssertTrue;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Data
+@Validated
+@ConfigurationProperties(prefix = "smartorder.users")
+public class UserProperties {
+    private final Listing listing = new Listing();
+    private final Batch batch = new Batch();
+    private final Lookup lookup = new Lookup();
+    private final Changes changes = new Changes();
+
+    @Data
+    public static class Listing {
+        private int defaultPageSize = 100;
+        private int maxPageSize = 1000;
+        /** How long a listing ETag's table version is reused before the aggregate runs again. */
+        private Duration versionTtl = Duration.ofSeconds(1);
+    }
+
+    @Data
+    public static class Batch {
+        private int chunkSize = 500;
+        private int maxItems = 50_000;
+        /** Timeout of each chunk's transaction, whole seconds; a chunk that runs longer rolls back. */
+        private Duration transactionTimeout = Duration.ofSeconds(10);
+    }
+
+    @Data
+    public static class Lookup {
+        /** Keys per IN list; large lookups run one query per chunk. */
+        private int chunkSize = 1000;
+    }
+
+    @Data
+    public static class Changes {
+        /**
+         * Rows updated more recently than this are held back from the change feed. updated_at is stamped
+         * before commit, so a slow transaction can commit a timestamp older than rows already served. This
+         * is a heuristic: it holds only while every user write commits within the window. Batch chunks are
+         * the longest writes, so it must exceed {@link Batch#getTransactionTimeout()}; startup fails otherwise.
+         */
+        private Duration settleWindow = Duration.ofSeconds(12);
+    }
+
+    @AssertTrue(message = "smartorder.users.changes.settle-window must be longer than "
+            + "smartorder.users.batch.transaction-timeout")
+    public boolean isSettleWindowLongerThanBatchTransactions() {
+        return changes.getSettleWindow().compareTo(batch.getTransactionTimeout()) > 0;
+    }
+}
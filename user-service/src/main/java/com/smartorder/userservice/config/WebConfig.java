@@ -0,0 +1,75 @@
+package com.smartorder.userservice.config;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+    public static final String COMPACT_JSON_VALUE = "application/vnd.smartorder.compact+json";
+    public static final MediaType COMPACT_JSON = MediaType.parseMediaType(COMPACT_JSON_VALUE);
+
+    private final ObjectMapper objectMapper;
+
+    /** Replaces reflective property access with generated lambdas; Spring Boot registers it on the shared mapper. */
+    @Bean
+    public static BlackbirdModule blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        // Ahead of the default JSON converter, which would otherwise claim application/*+json.
+        converters.add(0, new CompactJsonHttpMessageConverter(compact(objectMapper)));
+    }
+
+    /** Copy of {@code base} that writes timestamps as epoch millis and leaves out nulls. */
+    public static ObjectMapper compact(ObjectMapper base) {
+        return base.copy()
+                .registerModule(new SimpleModule("compact-json")
+                        .addSerializer(LocalDateTime.class, new EpochMillisSerializer()))
+                .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+    }
+
+    /** Only writes when the client asked for the compact type explicitly, never for wildcards. */
+    static class CompactJsonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+        CompactJsonHttpMessageConverter(ObjectMapper objectMapper) {
+            super(objectMapper);
+            setSupportedMediaTypes(List.of(COMPACT_JSON));
+        }
+
+        @Override
+        public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+            return mediaType != null && COMPACT_JSON.equalsTypeAndSubtype(mediaType) && super.canWrite(clazz, mediaType);
+        }
+    }
+
+    /** Timestamps are audited in the JVM's zone, so that zone turns them into instants. */
+    static class EpochMillisSerializer extends StdSerializer<LocalDateTime> {
+        EpochMillisSerializer() {
+            super(LocalDateTime.class);
+        }
+
+        @Override
+        public void serialize(LocalDateTime value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            generator.writeNumber(value.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        }
+    }
+}
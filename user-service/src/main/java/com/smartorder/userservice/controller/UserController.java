@@ -1,31 +1,137 @@
 package com.smartorder.userservice.controller;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.smartorder.userservice.dto.BatchCreateUserResponse;
+import com.smartorder.userservice.dto.ChangeCursor;
 import com.smartorder.userservice.dto.CreateUserRequest;
+import com.smartorder.userservice.dto.UserChanges;
+import com.smartorder.userservice.dto.UserLookupRequest;
+import com.smartorder.userservice.dto.UserLookupResponse;
+import com.smartorder.userservice.dto.UserPage;
 import com.smartorder.userservice.dto.UserResponse;
-import com.smartorder.userservice.model.User;
+import com.smartorder.userservice.dto.UserTableVersion;
+import com.smartorder.userservice.service.UserBatchService;
 import com.smartorder.userservice.service.UserService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/users")
 public class UserController {
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final UserService userService;
+    private final UserBatchService userBatchService;
+    private final ObjectMapper objectMapper;
 
     @GetMapping
-    public List<User> getUsers() {
-        return userService.getAllUsers();
+    public ResponseEntity<List<UserResponse>> getUsers(@RequestParam(required = false) Long after,
+                                               @RequestParam(required = false) Integer limit,
+                                               @RequestHeader(value = HttpHeaders.ACCEPT, defaultValue = "*/*") String accept,
+                                               WebRequest webRequest) {
+        UserTableVersion version = userService.getTableVersion();
+        String etag = version.etag(accept);
+        if (webRequest.checkNotModified(etag)) {
+            // 304 with the ETag already set; the page itself is never loaded.
+            return null;
+        }
+        UserPage page = userService.getUsers(after, limit);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(etag)
+                .varyBy(HttpHeaders.ACCEPT);
+        if (page.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, String.valueOf(page.nextCursor()));
+        }
+        return response.body(page.items());
+    }
+
+    @GetMapping("/changes")
+    public ResponseEntity<List<UserResponse>> getChanges(@RequestParam(required = false) String since,
+                                                         @RequestParam(required = false) Integer limit) {
+        UserChanges changes = userService.getChanges(ChangeCursor.decode(since), limit);
+        return ResponseEntity.ok()
+                .header(NEXT_CURSOR_HEADER, changes.nextCursor().encode())
+                .body(changes.items());
+    }
+
+    @GetMapping("/{id}")
+    public UserResponse getUser(@PathVariable Long id) {
+        return userService.getUser(id);
+    }
+
+    @GetMapping(params = "email")
+    public UserResponse getUserByEmail(@RequestParam String email) {
+        return userService.getUserByEmail(email);
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportUsers() {
+        ObjectWriter writer = objectMapper.writerFor(UserResponse.class);
+        StreamingResponseBody body = out -> userService.exportUsers(user -> {
+            try {
+                out.write(writer.writeValueAsBytes(user));
+                out.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 
     @PostMapping
     public ResponseEntity<UserResponse> createUser(@Valid @RequestBody CreateUserRequest userRequest) {
         return ResponseEntity.status(HttpStatus.CREATED).body(userService.createUser(userRequest));
     }
+
+    @PostMapping(value = "/lookup", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    public UserLookupResponse lookupUsers(@Valid @RequestBody UserLookupRequest lookupRequest) {
+        return userService.lookupUsers(lookupRequest);
+    }
+
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public BatchCreateUserResponse createUsers(@RequestBody List<CreateUserRequest> userRequests) {
+        return userBatchService.createUsers(userRequests.iterator());
+    }
+
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public BatchCreateUserResponse createUsersFromStream(InputStream body) throws IOException {
+        ObjectReader reader = objectMapper.readerFor(CreateUserRequest.class);
+        try (BufferedReader lines = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            return userBatchService.createUsers(lines.lines()
+                    .filter(line -> !line.isBlank())
+                    .map(line -> readLine(reader, line))
+                    .iterator());
+        }
+    }
+
+    private static CreateUserRequest readLine(ObjectReader reader, String line) {
+        try {
+            return reader.readValue(line);
+        } catch (JsonProcessingException e) {
+            // Reported back as an invalid item instead of failing the whole stream.
+            return null;
+        }
+    }
 }
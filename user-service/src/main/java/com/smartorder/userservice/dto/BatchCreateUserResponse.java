@@ -0,0 +1,13 @@
+package com.smartorder.userservice.dto;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record BatchCreateUserResponse(
+        int created,
+        int rejected,
+        boolean truncated,
+        List<BatchCreateUserResult> results) {
+}
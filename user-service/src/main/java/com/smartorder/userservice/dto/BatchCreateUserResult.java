@@ -0,0 +1,23 @@
+package com.smartorder.userservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BatchCreateUserResult(int index, Status status, UserResponse user, String error) {
+
+    public enum Status {
+        CREATED,
+        DUPLICATE,
+        INVALID
+    }
+
+    public static BatchCreateUserResult created(int index, UserResponse user) {
+        return new BatchCreateUserResult(index, Status.CREATED, user, null);
+    }
+
+    public static BatchCreateUserResult rejected(int index, Status status, String error) {
+        return new BatchCreateUserResult(index, status, null, error);
+    }
+}
@@ -1,15 +1,13 @@
 package com.smartorder.userservice.dto;
+
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 
-import lombok.Data;
-
-@Data
-public class CreateUserRequest {
-    @NotBlank(message = "Name is required")
-    private String name;
+public record CreateUserRequest(
+        @NotBlank(message = "Name is required")
+        String name,
 
-    @Email(message = "Invalid email address")
-    @NotBlank(message = "Email is required")
-    private String email;
+        @Email(message = "Invalid email address")
+        @NotBlank(message = "Email is required")
+        String email) {
 }
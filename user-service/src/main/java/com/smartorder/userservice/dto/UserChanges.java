@@ -0,0 +1,10 @@
+package com.smartorder.userservice.dto;
+
+import lombok.Builder;
+
+import java.util.List;
+
+/** {@code nextCursor} is always set; when {@code items} is empty it is the cursor the caller sent. */
+@Builder
+public record UserChanges(List<UserResponse> items, ChangeCursor nextCursor) {
+}
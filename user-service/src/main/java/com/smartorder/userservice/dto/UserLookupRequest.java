@@ -0,0 +1,18 @@
+package com.smartorder.userservice.dto;
+
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record UserLookupRequest(
+        @Size(max = 10_000, message = "At most 10000 ids per lookup")
+        List<Long> ids,
+
+        @Size(max = 10_000, message = "At most 10000 emails per lookup")
+        List<String> emails) {
+
+    public UserLookupRequest {
+        ids = ids == null ? List.of() : ids;
+        emails = emails == null ? List.of() : emails;
+    }
+}
@@ -0,0 +1,14 @@
+package com.smartorder.userservice.dto;
+
+import lombok.Builder;
+
+import java.util.List;
+import java.util.Map;
+
+@Builder
+public record UserLookupResponse(
+        Map<Long, UserResponse> byId,
+        Map<String, UserResponse> byEmail,
+        List<Long> missingIds,
+        List<String> missingEmails) {
+}
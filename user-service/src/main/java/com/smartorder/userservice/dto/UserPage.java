@@ -0,0 +1,9 @@
+package com.smartorder.userservice.dto;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record UserPage(List<UserResponse> items, Long nextCursor) {
+}
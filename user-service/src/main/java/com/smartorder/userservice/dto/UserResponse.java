@@ -1,16 +1,19 @@
 package com.smartorder.userservice.dto;
 
+import com.smartorder.userservice.model.User;
 import lombok.Builder;
-import lombok.Data;
 
 import java.time.LocalDateTime;
 
-@Data
 @Builder
-public class UserResponse {
-    private Long id;
-    private String name;
-    private String email;
-    private LocalDateTime createdAt;
-    private LocalDateTime updatedAt;
+public record UserResponse(
+        Long id,
+        String name,
+        String email,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt) {
+
+    public static UserResponse from(User user) {
+        return new UserResponse(user.getId(), user.getName(), user.getEmail(), user.getCreatedAt(), user.getUpdatedAt());
+    }
 }
@@ -0,0 +1,19 @@
+package com.smartorder.userservice.dto;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Cheap fingerprint of the users table: any insert, update or delete changes the row count or the
+ * latest {@code updated_at}.
+ */
+public record UserTableVersion(Long count, LocalDateTime lastUpdatedAt) {
+
+    /** Weak ETag for a listing rendered as {@code representation} (the negotiated media type). */
+    public String etag(String representation) {
+        long lastUpdatedMicros = lastUpdatedAt == null ? 0
+                : lastUpdatedAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + lastUpdatedAt.getNano() / 1_000;
+        return "W/\"" + count + "-" + Long.toHexString(lastUpdatedMicros)
+                + "-" + Integer.toHexString(representation.hashCode()) + "\"";
+    }
+}
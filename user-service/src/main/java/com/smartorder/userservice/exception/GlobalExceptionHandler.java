@@ -1,5 +1,7 @@
 package com.smartorder.userservice.exception;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
@@ -10,13 +12,20 @@ import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import java.net.URI;
 
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
+    static final String ERRORS_METRIC = "users.api.errors";
+
+    private final MeterRegistry meterRegistry;
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ProblemDetail handleMethodArgumentNotValidException(MethodArgumentNotValidException ex) {
+        countError("validation");
         ProblemDetail problemDetail = ProblemDetail.forStatus(HttpStatus.BAD_REQUEST);
         problemDetail.setTitle("Validation Error");
         problemDetail.setDetail(ex.getBindingResult().getFieldErrors().stream()
@@ -29,6 +38,7 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(HttpMessageNotReadableException.class)
     public ProblemDetail handleJsonParse(HttpMessageNotReadableException ex) {
+        countError("malformed_json");
         ProblemDetail problemDetail = ProblemDetail.forStatus(HttpStatus.BAD_REQUEST);
         problemDetail.setTitle("Malformed JSON request");
         problemDetail.setDetail("Your request body was unreadable or invalid.");
@@ -37,11 +47,13 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(ErrorResponseException.class)
     public ProblemDetail handleKnownErrors(ErrorResponseException ex) {
+        countError("http_" + ex.getStatusCode().value());
         return ex.getBody();
     }
 
     @ExceptionHandler(EmailAlreadyUsedException.class)
     public ProblemDetail handleEmailAlreadyUsed(EmailAlreadyUsedException ex) {
+        countError("email_conflict");
         ProblemDetail problemDetails = ProblemDetail.forStatus(HttpStatus.CONFLICT);
         problemDetails.setTitle("Email already used");
         problemDetails.setDetail(ex.getMessage());
@@ -49,8 +61,37 @@ public class GlobalExceptionHandler {
         return problemDetails;
     }
 
+    @ExceptionHandler(UserNotFoundException.class)
+    public ProblemDetail handleUserNotFound(UserNotFoundException ex) {
+        countError("user_not_found");
+        ProblemDetail problemDetails = ProblemDetail.forStatus(HttpStatus.NOT_FOUND);
+        problemDetails.setTitle("User not found");
+        problemDetails.setDetail(ex.getMessage());
+        problemDetails.setType(URI.create("https://smartorder.com/errors/user-not-found"));
+        return problemDetails;
+    }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public ProblemDetail handleInvalidCursor(InvalidCursorException ex) {
+        countError("invalid_cursor");
+        ProblemDetail problemDetails = ProblemDetail.forStatus(HttpStatus.BAD_REQUEST);
+        problemDetails.setTitle("Invalid cursor");
+        problemDetails.setDetail(ex.getMessage());
+        return problemDetails;
+    }
+
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ProblemDetail handleArgumentTypeMismatch(MethodArgumentTypeMismatchException ex) {
+        countError("invalid_parameter");
+        ProblemDetail problemDetails = ProblemDetail.forStatus(HttpStatus.BAD_REQUEST);
+        problemDetails.setTitle("Invalid parameter");
+        problemDetails.setDetail("Parameter '" + ex.getName() + "' has an invalid value.");
+        return problemDetails;
+    }
+
     @ExceptionHandler(HttpRequestMethodNotSupportedException.class)
     public ProblemDetail handleUnsupportedMethodException(HttpRequestMethodNotSupportedException ex) {
+        countError("method_not_allowed");
         ProblemDetail problemDetails = ProblemDetail.forStatus(HttpStatus.METHOD_NOT_ALLOWED);
         problemDetails.setTitle("Method Not Allowed");
         problemDetails.setDetail("The requested method is not supported for this endpoint.");
@@ -59,15 +100,21 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(HttpMediaTypeNotSupportedException.class)
     public ResponseEntity<String> handleUnsupportedMediaType(HttpMediaTypeNotSupportedException ex) {
+        countError("unsupported_media_type");
         return ResponseEntity.status(HttpStatus.UNSUPPORTED_MEDIA_TYPE)
-                .body("Unsupported content type. Please use application/json.");
+                .body("Unsupported content type. Please use application/json, or application/cbor between services.");
     }
 
     @ExceptionHandler(Exception.class)
     public ProblemDetail handleUnknown(Exception ex) {
+        countError("unknown");
         ProblemDetail problemDetails = ProblemDetail.forStatus(HttpStatus.INTERNAL_SERVER_ERROR);
         problemDetails.setTitle("Internal Server Error");
         problemDetails.setDetail("Something went wrong.");
         return problemDetails;
     }
+
+    private void countError(String outcome) {
+        meterRegistry.counter(ERRORS_METRIC, "outcome", outcome).increment();
+    }
 }
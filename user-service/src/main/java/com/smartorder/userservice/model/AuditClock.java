@@ -0,0 +1,39 @@
+package com.smartorder.userservice.model;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+/**
+ * Millisecond-resolution wall clock for audit timestamps. Every caller within the same millisecond gets
+ * the same {@link LocalDateTime} instance, and the zone offset is resolved at most once per second,
+ * so stamping a large batch costs one {@code currentTimeMillis()} per entity.
+ */
+public final class AuditClock {
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private static volatile Tick tick = new Tick(Long.MIN_VALUE, ZoneOffset.UTC, LocalDateTime.MIN);
+
+    private AuditClock() {
+    }
+
+    public static LocalDateTime now() {
+        long millis = System.currentTimeMillis();
+        Tick current = tick;
+        if (current.millis() == millis) {
+            return current.time();
+        }
+        long second = Math.floorDiv(millis, 1000);
+        ZoneOffset offset = second == Math.floorDiv(current.millis(), 1000)
+                ? current.offset()
+                : ZONE.getRules().getOffset(Instant.ofEpochSecond(second));
+        LocalDateTime time = LocalDateTime.ofEpochSecond(second, (int) Math.floorMod(millis, 1000) * 1_000_000, offset);
+        // Racing threads may each publish a tick for the same millisecond; all of them are correct.
+        tick = new Tick(millis, offset, time);
+        return time;
+    }
+
+    private record Tick(long millis, ZoneOffset offset, LocalDateTime time) {
+    }
+}
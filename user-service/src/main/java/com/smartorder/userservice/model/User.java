@@ -7,19 +7,41 @@ import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
 
+import java.util.Locale;
+
 @Data
 @EqualsAndHashCode(callSuper = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @SuperBuilder
 @Entity
-@Table(name = "users")
+@Table(name = "users",
+        uniqueConstraints = @UniqueConstraint(name = "uc_users_email", columnNames = "email"),
+        indexes = {
+                @Index(name = "idx_users_email_normalized", columnList = "email_normalized"),
+                @Index(name = "idx_users_created_at_id", columnList = "created_at, id"),
+                @Index(name = "idx_users_updated_at_id", columnList = "updated_at, id")
+        })
+@SequenceGenerator(name = "id_generator", sequenceName = "users_seq", allocationSize = 50)
 public class User extends BaseEntity {
 
     @Column(nullable = false)
     private String name;
 
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String email;
 
+    /** Lower-cased {@link #email}, maintained on every write, for case-insensitive lookups. */
+    @Column(name = "email_normalized", nullable = false)
+    private String emailNormalized;
+
+    @PrePersist
+    @PreUpdate
+    void normalizeEmail() {
+        emailNormalized = normalizeEmail(email);
+    }
+
+    public static String normalizeEmail(String email) {
+        return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
 }
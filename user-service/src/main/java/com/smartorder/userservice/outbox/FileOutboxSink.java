@@ -0,0 +1,85 @@
+package com.smartorder.userservice.outbox;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartorder.userservice.config.OutboxProperties;
+import com.smartorder.userservice.model.OutboxEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * Appends events to a local NDJSON file, one line per event, and forces each batch to disk
+ * before it is reported as published.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "smartorder.outbox.sink", havingValue = "file", matchIfMissing = true)
+public class FileOutboxSink implements OutboxSink, DisposableBean {
+    private final ObjectMapper objectMapper;
+    private final FileChannel channel;
+
+    public FileOutboxSink(OutboxProperties outboxProperties, ObjectMapper objectMapper) throws IOException {
+        this.objectMapper = objectMapper;
+        Path path = Path.of(outboxProperties.getFile().getPath());
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        this.channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        log.info("Publishing outbox events to {}", path.toAbsolutePath());
+    }
+
+    @Override
+    public void publish(List<OutboxEvent> events) {
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(toNdjson(events));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        channel.close();
+    }
+
+    private byte[] toNdjson(List<OutboxEvent> events) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(events.size() * 256);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.setRootValueSeparator(new SerializedString("\n"));
+            for (OutboxEvent event : events) {
+                generator.writeStartObject();
+                generator.writeNumberField("eventId", event.getId());
+                generator.writeStringField("type", event.getEventType());
+                generator.writeStringField("aggregateType", event.getAggregateType());
+                generator.writeNumberField("aggregateId", event.getAggregateId());
+                // UTC instant: readers on other hosts must not have to guess this JVM's zone.
+                generator.writeStringField("occurredAt",
+                        event.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant().toString());
+                generator.writeFieldName("payload");
+                generator.writeRawValue(event.getPayload());
+                generator.writeEndObject();
+            }
+            generator.writeRaw('\n');
+        }
+        return out.toByteArray();
+    }
+}
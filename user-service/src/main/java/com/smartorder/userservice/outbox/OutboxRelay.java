@@ -0,0 +1,79 @@
+package com.smartorder.userservice.outbox;
+
+import com.smartorder.userservice.config.OutboxProperties;
+import com.smartorder.userservice.model.OutboxEvent;
+import com.smartorder.userservice.repository.OutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Drains the outbox in batches: claim the oldest rows (skipping rows another relay holds),
+ * hand them to the sink and delete them, all in one transaction.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "smartorder.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+    private final OutboxRepository outboxRepository;
+    private final OutboxSink sink;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Counter publishedEvents;
+    private final Timer publishLag;
+    private final Timer batchTimer;
+
+    public OutboxRelay(OutboxRepository outboxRepository, OutboxSink sink, TransactionTemplate transactionTemplate,
+                       OutboxProperties outboxProperties, MeterRegistry meterRegistry) {
+        this.outboxRepository = outboxRepository;
+        this.sink = sink;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = outboxProperties.getRelay().getBatchSize();
+        this.publishedEvents = meterRegistry.counter("users.outbox.published");
+        this.publishLag = Timer.builder("users.outbox.lag")
+                .description("Time from writing an event to publishing it")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("users.outbox.relay.batch").register(meterRegistry);
+        Gauge.builder("users.outbox.pending", outboxRepository, OutboxRepository::count)
+                .description("Events written but not yet published")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${smartorder.outbox.relay.interval:100ms}")
+    public void relay() {
+        try {
+            Integer relayed;
+            do {
+                relayed = transactionTemplate.execute(status -> relayBatch());
+            } while (relayed != null && relayed == batchSize);
+        } catch (RuntimeException e) {
+            log.warn("Outbox relay failed, events stay queued for the next run", e);
+        }
+    }
+
+    private int relayBatch() {
+        List<OutboxEvent> events = outboxRepository.claimBatch(Limit.of(batchSize));
+        if (events.isEmpty()) {
+            return 0;
+        }
+        batchTimer.record(() -> sink.publish(events));
+        outboxRepository.deleteAllByIdInBatch(events.stream().map(OutboxEvent::getId).toList());
+
+        LocalDateTime now = LocalDateTime.now();
+        events.forEach(event -> publishLag.record(Duration.between(event.getCreatedAt(), now)));
+        publishedEvents.increment(events.size());
+        return events.size();
+    }
+}
@@ -0,0 +1,14 @@
+package com.smartorder.userservice.outbox;
+
+import com.smartorder.userservice.model.OutboxEvent;
+
+import java.util.List;
+
+/**
+ * Destination for relayed outbox events. A batch is deleted from the outbox only after
+ * {@link #publish} returns, so delivery is at-least-once and consumers must tolerate repeats.
+ */
+public interface OutboxSink {
+
+    void publish(List<OutboxEvent> events);
+}
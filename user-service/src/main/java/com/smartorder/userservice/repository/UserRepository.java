@@ -1,12 +1,82 @@
 package com.smartorder.userservice.repository;
 
+import com.smartorder.userservice.dto.UserResponse;
+import com.smartorder.userservice.dto.UserTableVersion;
 import com.smartorder.userservice.model.User;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 public interface UserRepository extends JpaRepository<User, Long> {
+    String SELECT_USER_RESPONSE = "select new com.smartorder.userservice.dto.UserResponse("
+            + "u.id, u.name, u.email, u.createdAt, u.updatedAt) from User u ";
+
     Optional<User> findByEmail(String email);
 
     boolean existsByEmail(String email);
+
+    @Query(SELECT_USER_RESPONSE + "where u.id = :id")
+    Optional<UserResponse> findResponseById(@Param("id") Long id);
+
+    /** Case-insensitive via idx_users_email_normalized; pass an already normalized email. */
+    @Query(SELECT_USER_RESPONSE + "where u.emailNormalized = :emailNormalized order by u.id")
+    List<UserResponse> findResponsesByEmailNormalized(@Param("emailNormalized") String emailNormalized, Limit limit);
+
+    /** Range scan on idx_users_created_at_id; {@code to} is exclusive. */
+    @Query(SELECT_USER_RESPONSE + "where u.createdAt >= :from and u.createdAt < :to order by u.createdAt, u.id")
+    @QueryHints(@QueryHint(name = HINT_READ_ONLY, value = "true"))
+    List<UserResponse> findCreatedBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to, Limit limit);
+
+    /** Range scan on idx_users_updated_at_id; {@code to} is exclusive. */
+    @Query(SELECT_USER_RESPONSE + "where u.updatedAt >= :from and u.updatedAt < :to order by u.updatedAt, u.id")
+    @QueryHints(@QueryHint(name = HINT_READ_ONLY, value = "true"))
+    List<UserResponse> findUpdatedBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to, Limit limit);
+
+    /**
+     * Change feed page: rows after the {@code (updatedAt, id)} cursor and before {@code settledBefore}.
+     * The leading {@code updatedAt >=} keeps this a range scan on idx_users_updated_at_id.
+     */
+    @Query(SELECT_USER_RESPONSE + "where u.updatedAt >= :updatedAt and (u.updatedAt > :updatedAt or u.id > :id) "
+            + "and u.updatedAt < :settledBefore order by u.updatedAt, u.id")
+    @QueryHints(@QueryHint(name = HINT_READ_ONLY, value = "true"))
+    List<UserResponse> findChangesAfter(@Param("updatedAt") LocalDateTime updatedAt, @Param("id") long id,
+                                        @Param("settledBefore") LocalDateTime settledBefore, Limit limit);
+
+    @Query(SELECT_USER_RESPONSE + "where u.id in :ids")
+    @QueryHints(@QueryHint(name = HINT_READ_ONLY, value = "true"))
+    List<UserResponse> findResponsesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /** Case-insensitive via idx_users_email_normalized; pass already normalized emails. */
+    @Query(SELECT_USER_RESPONSE + "where u.emailNormalized in :emailsNormalized order by u.id")
+    @QueryHints(@QueryHint(name = HINT_READ_ONLY, value = "true"))
+    List<UserResponse> findResponsesByEmailNormalizedIn(@Param("emailsNormalized") Collection<String> emailsNormalized);
+
+    @Query("select u.email from User u where u.email in :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    @Query("select new com.smartorder.userservice.dto.UserTableVersion(count(u), max(u.updatedAt)) from User u")
+    UserTableVersion findTableVersion();
+
+    @Query(SELECT_USER_RESPONSE + "where u.id > :after order by u.id")
+    @QueryHints(@QueryHint(name = HINT_READ_ONLY, value = "true"))
+    List<UserResponse> findPageAfter(@Param("after") Long after, Limit limit);
+
+    @Query(SELECT_USER_RESPONSE + "order by u.id")
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    Stream<UserResponse> streamAll();
 }
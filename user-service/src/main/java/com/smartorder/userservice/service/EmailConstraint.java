@@ -0,0 +1,27 @@
+package com.smartorder.userservice.service;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Locale;
+
+final class EmailConstraint {
+    static final String NAME = "uc_users_email";
+
+    private EmailConstraint() {
+    }
+
+    static boolean isViolatedBy(DataIntegrityViolationException ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                // H2 reports the backing index (e.g. PUBLIC.UC_USERS_EMAIL_INDEX_4), so match on the prefix.
+                String constraint = violation.getConstraintName();
+                if (constraint == null && violation.getSQLException() != null) {
+                    constraint = violation.getSQLException().getMessage();
+                }
+                return constraint != null && constraint.toLowerCase(Locale.ROOT).contains(NAME);
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,185 @@
+package com.smartorder.userservice.service;
+
+import com.smartorder.userservice.config.CacheConfig;
+import com.smartorder.userservice.config.UserProperties;
+import com.smartorder.userservice.dto.BatchCreateUserResponse;
+import com.smartorder.userservice.dto.BatchCreateUserResult;
+import com.smartorder.userservice.dto.BatchCreateUserResult.Status;
+import com.smartorder.userservice.dto.CreateUserRequest;
+import com.smartorder.userservice.dto.UserResponse;
+import com.smartorder.userservice.model.User;
+import com.smartorder.userservice.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+@Timed(value = "users.service", histogram = true, percentiles = {0.5, 0.99})
+public class UserBatchService {
+    private final UserRepository userRepository;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final UserProperties userProperties;
+    private final CacheManager cacheManager;
+    private final UserEventOutbox userEventOutbox;
+    private final UserTableVersionCache userTableVersionCache;
+
+    public UserBatchService(UserRepository userRepository, Validator validator, TransactionTemplate transactionTemplate,
+                            UserProperties userProperties, CacheManager cacheManager, UserEventOutbox userEventOutbox,
+                            UserTableVersionCache userTableVersionCache) {
+        this.userRepository = userRepository;
+        this.validator = validator;
+        // Bounded so the change feed's settle window can cover every chunk; see UserProperties.Changes.
+        this.transactionTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager(), transactionTemplate);
+        this.transactionTemplate.setTimeout((int) userProperties.getBatch().getTransactionTimeout().toSeconds());
+        this.userProperties = userProperties;
+        this.cacheManager = cacheManager;
+        this.userEventOutbox = userEventOutbox;
+        this.userTableVersionCache = userTableVersionCache;
+    }
+
+    /**
+     * Creates users chunk by chunk. A {@code null} element stands for an item that could not be parsed.
+     * Items past {@code smartorder.users.batch.max-items} are not read and the response is flagged as truncated.
+     */
+    public BatchCreateUserResponse createUsers(Iterator<CreateUserRequest> requests) {
+        UserProperties.Batch batch = userProperties.getBatch();
+        List<BatchCreateUserResult> results = new ArrayList<>();
+        List<PendingUser> chunk = new ArrayList<>(batch.getChunkSize());
+        Set<String> batchEmails = new HashSet<>();
+        boolean truncated = false;
+
+        while (requests.hasNext()) {
+            if (results.size() >= batch.getMaxItems()) {
+                truncated = true;
+                break;
+            }
+            int index = results.size();
+            CreateUserRequest request = requests.next();
+            String violations = validate(request);
+            if (violations != null) {
+                results.add(BatchCreateUserResult.rejected(index, Status.INVALID, violations));
+            } else if (!batchEmails.add(request.email())) {
+                results.add(BatchCreateUserResult.rejected(index, Status.DUPLICATE,
+                        "Email appears more than once in this batch"));
+            } else {
+                // Placeholder until the chunk containing this item is written.
+                results.add(null);
+                chunk.add(new PendingUser(index, request));
+                if (chunk.size() >= batch.getChunkSize()) {
+                    insertChunk(chunk, results);
+                    chunk.clear();
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            insertChunk(chunk, results);
+        }
+
+        int created = (int) results.stream().filter(result -> result.status() == Status.CREATED).count();
+        return BatchCreateUserResponse.builder()
+                .created(created)
+                .rejected(results.size() - created)
+                .truncated(truncated)
+                .results(results)
+                .build();
+    }
+
+    private void insertChunk(List<PendingUser> chunk, List<BatchCreateUserResult> results) {
+        Set<String> existingEmails = new HashSet<>(userRepository.findExistingEmails(
+                chunk.stream().map(pending -> pending.request().email()).toList()));
+
+        List<PendingUser> toInsert = new ArrayList<>(chunk.size());
+        for (PendingUser pending : chunk) {
+            if (existingEmails.contains(pending.request().email())) {
+                results.set(pending.index(), emailInUse(pending.index()));
+            } else {
+                toInsert.add(pending);
+            }
+        }
+        if (toInsert.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<User> saved = transactionTemplate.execute(status -> {
+                List<User> users = userRepository.saveAllAndFlush(
+                        toInsert.stream().map(pending -> toUser(pending.request())).toList());
+                userEventOutbox.usersCreated(users);
+                return users;
+            });
+            for (int i = 0; i < toInsert.size(); i++) {
+                int index = toInsert.get(i).index();
+                results.set(index, created(index, saved.get(i)));
+            }
+        } catch (DataIntegrityViolationException ex) {
+            // Someone else claimed an email between the check and the insert; isolate it row by row.
+            toInsert.forEach(pending -> insertOne(pending, results));
+        }
+    }
+
+    private void insertOne(PendingUser pending, List<BatchCreateUserResult> results) {
+        try {
+            User saved = transactionTemplate.execute(status -> {
+                User user = userRepository.saveAndFlush(toUser(pending.request()));
+                userEventOutbox.userCreated(user);
+                return user;
+            });
+            results.set(pending.index(), created(pending.index(), saved));
+        } catch (DataIntegrityViolationException ex) {
+            if (!EmailConstraint.isViolatedBy(ex)) {
+                throw ex;
+            }
+            results.set(pending.index(), emailInUse(pending.index()));
+        }
+    }
+
+    private String validate(CreateUserRequest request) {
+        if (request == null) {
+            return "Item is not a valid user object";
+        }
+        Set<ConstraintViolation<CreateUserRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ":" + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    private BatchCreateUserResult created(int index, User user) {
+        Cache usersByEmail = cacheManager.getCache(CacheConfig.USERS_BY_EMAIL);
+        if (usersByEmail != null) {
+            usersByEmail.evict(User.normalizeEmail(user.getEmail()));
+        }
+        userTableVersionCache.tableChanged();
+        return BatchCreateUserResult.created(index, UserResponse.from(user));
+    }
+
+    private static BatchCreateUserResult emailInUse(int index) {
+        return BatchCreateUserResult.rejected(index, Status.DUPLICATE, "Email already in use");
+    }
+
+    private static User toUser(CreateUserRequest request) {
+        return User.builder()
+                .name(request.name())
+                .email(request.email())
+                .build();
+    }
+
+    private record PendingUser(int index, CreateUserRequest request) {
+    }
+}
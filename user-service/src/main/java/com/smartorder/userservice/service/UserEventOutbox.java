@@ -0,0 +1,71 @@
+package com.smartorder.userservice.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartorder.userservice.model.AuditClock;
+import com.smartorder.userservice.model.OutboxEvent;
+import com.smartorder.userservice.model.User;
+import com.smartorder.userservice.repository.OutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * Records user change events in the outbox. Must run inside the transaction that changed the
+ * user, so the event is committed if and only if the change is.
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class UserEventOutbox {
+    public static final String AGGREGATE_TYPE = "User";
+    public static final String USER_CREATED = "UserCreated";
+
+    private final OutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+
+    public void userCreated(User user) {
+        outboxRepository.save(userCreatedEvent(user));
+    }
+
+    public void usersCreated(List<User> users) {
+        outboxRepository.saveAll(users.stream().map(this::userCreatedEvent).toList());
+    }
+
+    private OutboxEvent userCreatedEvent(User user) {
+        return OutboxEvent.builder()
+                .aggregateType(AGGREGATE_TYPE)
+                .aggregateId(user.getId())
+                .eventType(USER_CREATED)
+                .payload(toJson(UserCreatedPayload.from(user)))
+                .createdAt(AuditClock.now())
+                .build();
+    }
+
+    private String toJson(UserCreatedPayload user) {
+        try {
+            return objectMapper.writeValueAsString(user);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize user " + user.id(), e);
+        }
+    }
+
+    /** Event body; timestamps are UTC instants so consumers in other zones read them unambiguously. */
+    record UserCreatedPayload(Long id, String name, String email, Instant createdAt, Instant updatedAt) {
+        static UserCreatedPayload from(User user) {
+            return new UserCreatedPayload(user.getId(), user.getName(), user.getEmail(),
+                    toInstant(user.getCreatedAt()), toInstant(user.getUpdatedAt()));
+        }
+    }
+
+    /** Audit stamps are local wall-clock times of this JVM's zone. */
+    static Instant toInstant(LocalDateTime time) {
+        return time == null ? null : time.atZone(ZoneId.systemDefault()).toInstant();
+    }
+}
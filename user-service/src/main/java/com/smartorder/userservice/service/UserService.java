@@ -1,40 +1,168 @@
 package com.smartorder.userservice.service;
 
+import com.smartorder.userservice.config.CacheConfig;
+import com.smartorder.userservice.config.UserProperties;
+import com.smartorder.userservice.dto.ChangeCursor;
 import com.smartorder.userservice.dto.CreateUserRequest;
+import com.smartorder.userservice.dto.UserChanges;
+import com.smartorder.userservice.dto.UserLookupRequest;
+import com.smartorder.userservice.dto.UserLookupResponse;
+import com.smartorder.userservice.dto.UserPage;
 import com.smartorder.userservice.dto.UserResponse;
+import com.smartorder.userservice.dto.UserTableVersion;
 import com.smartorder.userservice.exception.EmailAlreadyUsedException;
+import com.smartorder.userservice.exception.UserNotFoundException;
 import com.smartorder.userservice.model.User;
 import com.smartorder.userservice.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
+@Timed(value = "users.service", histogram = true, percentiles = {0.5, 0.99})
 public class UserService {
     private final UserRepository userRepository;
+    private final UserProperties userProperties;
+    private final UserEventOutbox userEventOutbox;
+    private final UserTableVersionCache userTableVersionCache;
 
-    public List<User> getAllUsers() {
-        return userRepository.findAll();
+    @Transactional(readOnly = true)
+    public UserPage getUsers(Long after, Integer limit) {
+        int pageSize = resolvePageSize(limit);
+        // Fetch one extra row so we know whether another page exists without a count query.
+        List<UserResponse> users = userRepository.findPageAfter(
+                after == null ? 0L : after, Limit.of(pageSize + 1));
+
+        Long nextCursor = null;
+        if (users.size() > pageSize) {
+            users = users.subList(0, pageSize);
+            nextCursor = users.get(pageSize - 1).id();
+        }
+        return UserPage.builder()
+                .items(users)
+                .nextCursor(nextCursor)
+                .build();
     }
 
-    public UserResponse createUser(CreateUserRequest userRequest) {
-        if (userRepository.existsByEmail(userRequest.getEmail())) {
-            throw new EmailAlreadyUsedException("Email already in use");
+    /** Users created or updated after {@code since}, oldest change first, excluding the settle window. */
+    @Transactional(readOnly = true)
+    public UserChanges getChanges(ChangeCursor since, Integer limit) {
+        LocalDateTime settledBefore = LocalDateTime.now().minus(userProperties.getChanges().getSettleWindow());
+        List<UserResponse> users = userRepository.findChangesAfter(
+                since.updatedAt(), since.id(), settledBefore, Limit.of(resolvePageSize(limit)));
+        return UserChanges.builder()
+                .items(users)
+                .nextCursor(users.isEmpty() ? since : ChangeCursor.after(users.get(users.size() - 1)))
+                .build();
+    }
+
+    /** One aggregate query at most per version TTL; lets listing callers answer 304 without loading a page. */
+    @Transactional(readOnly = true)
+    public UserTableVersion getTableVersion() {
+        return userTableVersionCache.get();
+    }
+
+    @Transactional(readOnly = true)
+    public void exportUsers(Consumer<UserResponse> consumer) {
+        try (Stream<UserResponse> users = userRepository.streamAll()) {
+            users.forEach(consumer);
         }
+    }
 
-        User user = userRepository.save(User.builder()
-                .name(userRequest.getName())
-                .email(userRequest.getEmail())
-                .build());
-        return UserResponse.builder()
-                .id(user.getId())
-                .name(user.getName())
-                .email(user.getEmail())
-                .createdAt(user.getCreatedAt())
-                .updatedAt(user.getUpdatedAt())
+    @Cacheable(cacheNames = CacheConfig.USERS_BY_ID, key = "#id")
+    @Transactional(readOnly = true)
+    public UserResponse getUser(Long id) {
+        return userRepository.findResponseById(id)
+                .orElseThrow(() -> new UserNotFoundException("No user with id " + id));
+    }
+
+    // Keyed on the normalized email, like the lookup itself, so every casing shares one entry.
+    @Cacheable(cacheNames = CacheConfig.USERS_BY_EMAIL,
+            key = "T(com.smartorder.userservice.model.User).normalizeEmail(#email)")
+    @Transactional(readOnly = true)
+    public UserResponse getUserByEmail(String email) {
+        // Emails differing only in case may belong to different users; the first registered wins.
+        return userRepository.findResponsesByEmailNormalized(User.normalizeEmail(email), Limit.of(1)).stream()
+                .findFirst()
+                .orElseThrow(() -> new UserNotFoundException("No user with email " + email));
+    }
+
+    @Transactional(readOnly = true)
+    public UserLookupResponse lookupUsers(UserLookupRequest request) {
+        int chunkSize = userProperties.getLookup().getChunkSize();
+        List<Long> ids = distinct(request.ids());
+        // Keyed on the normalized email, so callers find a user whatever case it was registered or asked in.
+        List<String> emails = distinct(request.emails().stream().map(User::normalizeEmail).toList());
+        Map<Long, UserResponse> byId = findInChunks(ids, chunkSize, userRepository::findResponsesByIdIn, UserResponse::id);
+        Map<String, UserResponse> byEmail = findInChunks(emails, chunkSize,
+                userRepository::findResponsesByEmailNormalizedIn, user -> User.normalizeEmail(user.email()));
+        return UserLookupResponse.builder()
+                .byId(byId)
+                .byEmail(byEmail)
+                .missingIds(ids.stream().filter(id -> !byId.containsKey(id)).toList())
+                .missingEmails(emails.stream().filter(email -> !byEmail.containsKey(email)).toList())
                 .build();
     }
 
+    @CacheEvict(cacheNames = CacheConfig.USERS_BY_EMAIL,
+            key = "T(com.smartorder.userservice.model.User).normalizeEmail(#userRequest.email())")
+    @Transactional
+    public UserResponse createUser(CreateUserRequest userRequest) {
+        // Insert first and let uc_users_email arbitrate: one round trip, and no window between check and insert.
+        try {
+            User user = userRepository.saveAndFlush(User.builder()
+                    .name(userRequest.name())
+                    .email(userRequest.email())
+                    .build());
+            userEventOutbox.userCreated(user);
+            userTableVersionCache.tableChanged();
+            return UserResponse.from(user);
+        } catch (DataIntegrityViolationException ex) {
+            if (EmailConstraint.isViolatedBy(ex)) {
+                throw new EmailAlreadyUsedException("Email already in use");
+            }
+            throw ex;
+        }
+    }
+
+    private int resolvePageSize(Integer limit) {
+        UserProperties.Listing listing = userProperties.getListing();
+        if (limit == null) {
+            return listing.getDefaultPageSize();
+        }
+        return Math.max(1, Math.min(limit, listing.getMaxPageSize()));
+    }
+
+    private static <K> List<K> distinct(Collection<K> keys) {
+        return keys.stream().filter(Objects::nonNull).distinct().toList();
+    }
+
+    private static <K> Map<K, UserResponse> findInChunks(List<K> keys, int chunkSize,
+                                                        Function<List<K>, List<UserResponse>> query,
+                                                        Function<UserResponse, K> keyOf) {
+        Map<K, UserResponse> found = new LinkedHashMap<>();
+        for (int from = 0; from < keys.size(); from += chunkSize) {
+            for (UserResponse user : query.apply(keys.subList(from, Math.min(from + chunkSize, keys.size())))) {
+                // Rows come in id order, so the first registered user wins a shared normalized email.
+                found.putIfAbsent(keyOf.apply(user), user);
+            }
+        }
+        return found;
+    }
 }
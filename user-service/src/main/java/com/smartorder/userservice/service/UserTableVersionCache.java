@@ -0,0 +1,57 @@
+package com.smartorder.userservice.service;
+
+import com.smartorder.userservice.config.UserProperties;
+import com.smartorder.userservice.dto.UserTableVersion;
+import com.smartorder.userservice.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Holds the last {@link UserTableVersion} for {@code smartorder.users.listing.version-ttl}, so revalidating
+ * listings do not each run the count and max aggregate. Writes through this instance drop it once they commit;
+ * writes from other instances or outside the services show up within the TTL.
+ */
+@Component
+@RequiredArgsConstructor
+class UserTableVersionCache {
+    private final UserRepository userRepository;
+    private final UserProperties userProperties;
+    private final AtomicLong generation = new AtomicLong();
+    private volatile Cached cached;
+
+    /** Call inside the read transaction. */
+    UserTableVersion get() {
+        long now = System.nanoTime();
+        long currentGeneration = generation.get();
+        Cached current = cached;
+        if (current != null && current.generation() == currentGeneration && now - current.expiresAt() < 0) {
+            return current.version();
+        }
+        UserTableVersion version = userRepository.findTableVersion();
+        // A write that commits while the aggregate runs bumps the generation, and the result is not kept.
+        cached = new Cached(version, currentGeneration,
+                now + userProperties.getListing().getVersionTtl().toNanos());
+        return version;
+    }
+
+    /** Call inside the write transaction; the cached version is dropped after it commits. */
+    void tableChanged() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    generation.incrementAndGet();
+                }
+            });
+        } else {
+            generation.incrementAndGet();
+        }
+    }
+
+    private record Cached(UserTableVersion version, long generation, long expiresAt) {
+    }
+}
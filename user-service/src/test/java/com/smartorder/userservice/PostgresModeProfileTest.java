@@ -0,0 +1,60 @@
+package com.smartorder.userservice;
+
+import com.smartorder.userservice.dto.BatchCreateUserResponse;
+import com.smartorder.userservice.dto.CreateUserRequest;
+import com.smartorder.userservice.dto.UserResponse;
+import com.smartorder.userservice.service.UserBatchService;
+import com.smartorder.userservice.service.UserService;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.liquibase.enabled=true"
+})
+@ActiveProfiles({"test", "h2-pg"})
+@DisplayName("h2-pg Profile Tests")
+class PostgresModeProfileTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserBatchService userBatchService;
+
+    @Test
+    @DisplayName("Should migrate and serve users on H2 in PostgreSQL mode with the profile's pool")
+    void shouldRunAgainstPostgresMode() {
+        // Given
+        String mode = jdbcTemplate.queryForObject(
+                "SELECT setting_value FROM information_schema.settings WHERE setting_name = 'MODE'", String.class);
+
+        // When
+        UserResponse created = userService.createUser(new CreateUserRequest("Pg Mode", "Pg.Mode@example.com"));
+        BatchCreateUserResponse batch = userBatchService.createUsers(List.of(
+                new CreateUserRequest("Batch 1", "batch1@example.com"),
+                new CreateUserRequest("Batch 2", "batch2@example.com")).iterator());
+
+        // Then
+        assertThat(mode).isEqualTo("PostgreSQL");
+        assertThat(((HikariDataSource) dataSource).getMaximumPoolSize()).isEqualTo(16);
+        assertThat(batch.created()).isEqualTo(2);
+        assertThat(userService.getUserByEmail("pg.mode@example.com").id()).isEqualTo(created.id());
+    }
+}
@@ -0,0 +1,84 @@
+package com.smartorder.userservice;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles({"test", "virtual-threads"})
+@Import(VirtualThreadsProfileTest.ParkingController.class)
+@DisplayName("Virtual Threads Profile Load Test")
+class VirtualThreadsProfileTest {
+
+    // Well above Tomcat's default of 200 platform worker threads.
+    private static final int CONCURRENT_REQUESTS = 300;
+    private static final CountDownLatch ARRIVED = new CountDownLatch(CONCURRENT_REQUESTS);
+    private static final CountDownLatch RELEASE = new CountDownLatch(1);
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    @DisplayName("Should hold more requests in flight than the platform thread pool allows, without extra platform threads")
+    void shouldHandleMoreConcurrentRequestsThanDefaultThreadPool() throws Exception {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        int platformThreadsBefore = threads.getThreadCount();
+
+        try (ExecutorService clientExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(clientExecutor)
+                    .build();
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/test/park")).build();
+
+            List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>();
+            for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+                responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.ofString()));
+            }
+
+            // Every request must be parked inside the handler at the same time; with 200 platform workers this times out.
+            assertThat(ARRIVED.await(30, TimeUnit.SECONDS)).isTrue();
+            int platformThreadsInFlight = threads.getThreadCount();
+            RELEASE.countDown();
+
+            for (CompletableFuture<HttpResponse<String>> response : responses) {
+                assertThat(response.get(30, TimeUnit.SECONDS).statusCode()).isEqualTo(200);
+            }
+
+            assertThat(platformThreadsInFlight - platformThreadsBefore)
+                    .as("platform threads added while %d requests were in flight", CONCURRENT_REQUESTS)
+                    .isLessThan(CONCURRENT_REQUESTS / 4);
+        }
+    }
+
+    @RestController
+    static class ParkingController {
+        @GetMapping("/test/park")
+        String park() throws InterruptedException {
+            ARRIVED.countDown();
+            RELEASE.await(30, TimeUnit.SECONDS);
+            return "ok";
+        }
+    }
+}
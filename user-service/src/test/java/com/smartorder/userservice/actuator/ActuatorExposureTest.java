@@ -0,0 +1,31 @@
+package com.smartorder.userservice.actuator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Actuator Exposure Tests")
+class ActuatorExposureTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("Should keep state-changing endpoints hidden without the ops profile")
+    void shouldHideStateChangingEndpoints() throws Exception {
+        // When / Then
+        mockMvc.perform(get("/actuator/hibernatestatistics")).andExpect(status().isNotFound());
+        mockMvc.perform(get("/actuator/caches")).andExpect(status().isNotFound());
+        mockMvc.perform(get("/actuator/health")).andExpect(status().isOk());
+    }
+}
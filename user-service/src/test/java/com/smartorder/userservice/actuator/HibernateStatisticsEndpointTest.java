@@ -0,0 +1,79 @@
+package com.smartorder.userservice.actuator;
+
+import com.smartorder.userservice.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles({"test", "ops"})
+@DisplayName("Hibernate Statistics Endpoint Tests")
+class HibernateStatisticsEndpointTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        mockMvc.perform(post("/actuator/hibernatestatistics")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"enabled\":false}"));
+    }
+
+    @Test
+    @DisplayName("Should collect statistics only after being enabled")
+    void shouldCollectStatisticsOnDemand() throws Exception {
+        // Given
+        mockMvc.perform(get("/actuator/hibernatestatistics"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.enabled").value(false));
+
+        // When
+        mockMvc.perform(post("/actuator/hibernatestatistics")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"enabled\":true}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.enabled").value(true));
+        userService.getUsers(null, null);
+
+        // Then
+        mockMvc.perform(get("/actuator/hibernatestatistics"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.queryExecutions", greaterThanOrEqualTo(1)))
+                .andExpect(jsonPath("$.topQueriesByTotalTime[0].executions", greaterThanOrEqualTo(1)));
+    }
+
+    @Test
+    @DisplayName("Should reset counters on delete")
+    void shouldResetCounters() throws Exception {
+        // Given
+        mockMvc.perform(post("/actuator/hibernatestatistics")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"enabled\":true}"));
+        userService.getUsers(null, null);
+
+        // When
+        mockMvc.perform(delete("/actuator/hibernatestatistics"))
+                .andExpect(status().isNoContent());
+
+        // Then
+        mockMvc.perform(get("/actuator/hibernatestatistics"))
+                .andExpect(jsonPath("$.queryExecutions").value(0));
+    }
+}
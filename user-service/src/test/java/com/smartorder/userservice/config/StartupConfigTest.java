@@ -0,0 +1,82 @@
+package com.smartorder.userservice.config;
+
+import liquibase.integration.spring.SpringLiquibase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.config.YamlPropertiesFactoryBean;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("StartupConfig Tests")
+class StartupConfigTest {
+
+    @Test
+    @DisplayName("Should skip Liquibase only while the configured tag is the last changelog row")
+    void shouldSkipLiquibaseWhenTagged() {
+        // Given
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:startup-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        BeanPostProcessor skip = StartupConfig.skipTaggedLiquibase("v1.1");
+
+        // When
+        SpringLiquibase emptyDatabase = liquibase(dataSource);
+        skip.postProcessBeforeInitialization(emptyDatabase, "liquibase");
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute(
+                "CREATE TABLE databasechangelog (id VARCHAR(255), tag VARCHAR(255), orderexecuted INT)");
+        jdbcTemplate.update("INSERT INTO databasechangelog (id, tag, orderexecuted) VALUES ('1', 'v0.9', 1)");
+        SpringLiquibase olderTag = liquibase(dataSource);
+        skip.postProcessBeforeInitialization(olderTag, "liquibase");
+
+        jdbcTemplate.update("INSERT INTO databasechangelog (id, tag, orderexecuted) VALUES ('2', 'v1.1', 2)");
+        SpringLiquibase tagged = liquibase(dataSource);
+        skip.postProcessBeforeInitialization(tagged, "liquibase");
+
+        jdbcTemplate.update("INSERT INTO databasechangelog (id, tag, orderexecuted) VALUES ('3', NULL, 3)");
+        SpringLiquibase changedAfterTag = liquibase(dataSource);
+        skip.postProcessBeforeInitialization(changedAfterTag, "liquibase");
+
+        // Then
+        assertThat(emptyDatabase.isShouldRun()).isTrue();
+        assertThat(olderTag.isShouldRun()).isTrue();
+        assertThat(tagged.isShouldRun()).isFalse();
+        assertThat(changedAfterTag.isShouldRun()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should configure fast-start with the tag of the last changelog file")
+    void shouldSkipOnlyAtTheLatestTag() throws IOException {
+        // Given
+        YamlPropertiesFactoryBean yaml = new YamlPropertiesFactoryBean();
+        yaml.setResources(new ClassPathResource("application-fast-start.yml"));
+        String configuredTag = yaml.getObject().getProperty("smartorder.liquibase.skip-when-tagged");
+
+        // When
+        Resource lastChangelog = Arrays.stream(new PathMatchingResourcePatternResolver()
+                        .getResources("classpath:db/changelog/*.yml"))
+                .max(Comparator.comparing(Resource::getFilename))
+                .orElseThrow();
+
+        // Then
+        assertThat(lastChangelog.getContentAsString(StandardCharsets.UTF_8)).contains("tag: " + configuredTag);
+    }
+
+    private static SpringLiquibase liquibase(DriverManagerDataSource dataSource) {
+        SpringLiquibase liquibase = new SpringLiquibase();
+        liquibase.setDataSource(dataSource);
+        return liquibase;
+    }
+}
@@ -0,0 +1,32 @@
+package com.smartorder.userservice.config;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("UserProperties Tests")
+class UserPropertiesTest {
+
+    private static final Validator VALIDATOR = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Test
+    @DisplayName("Should reject a settle window that a batch transaction could outlast")
+    void shouldRequireSettleWindowLongerThanBatchTransactions() {
+        // Given
+        UserProperties defaults = new UserProperties();
+        UserProperties tooShort = new UserProperties();
+        tooShort.getChanges().setSettleWindow(Duration.ofSeconds(2));
+
+        // When & Then
+        assertThat(VALIDATOR.validate(defaults)).isEmpty();
+        assertThat(VALIDATOR.validate(tooShort)).extracting(ConstraintViolation::getMessage)
+                .containsExactly("smartorder.users.changes.settle-window must be longer than "
+                        + "smartorder.users.batch.transaction-timeout");
+    }
+}
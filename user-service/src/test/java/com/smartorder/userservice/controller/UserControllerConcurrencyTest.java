@@ -0,0 +1,84 @@
+package com.smartorder.userservice.controller;
+
+import com.smartorder.userservice.dto.CreateUserRequest;
+import com.smartorder.userservice.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@DisplayName("UserController Concurrency Tests")
+class UserControllerConcurrencyTest {
+
+    private static final int THREADS = 16;
+    private static final int REQUESTS = 64;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    @AfterEach
+    void cleanUp() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should create exactly one user and answer 409 to every other concurrent signup with the same email")
+    void shouldAllowExactlyOneConcurrentSignupPerEmail() throws Exception {
+        // Given
+        CreateUserRequest request = new CreateUserRequest("Racer", "racer@example.com");
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<HttpStatusCode>> responses = new ArrayList<>();
+
+        // When
+        try {
+            for (int i = 0; i < REQUESTS; i++) {
+                responses.add(executor.submit(() -> {
+                    start.await();
+                    return restTemplate.postForEntity("/api/users", request, String.class).getStatusCode();
+                }));
+            }
+            start.countDown();
+
+            List<Integer> statuses = new ArrayList<>();
+            for (Future<HttpStatusCode> response : responses) {
+                statuses.add(response.get(30, TimeUnit.SECONDS).value());
+            }
+
+            // Then
+            Map<Integer, Long> byStatus = statuses.stream()
+                    .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+            assertThat(byStatus).containsOnlyKeys(201, 409);
+            assertThat(byStatus.get(201)).isEqualTo(1L);
+            assertThat(byStatus.get(409)).isEqualTo(REQUESTS - 1L);
+            assertThat(userRepository.count()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -15,6 +15,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -56,9 +57,7 @@ class UserControllerIntegrationTest {
         @DisplayName("Should create user and return 201 with user data")
         void shouldCreateUserAndReturn201() throws Exception {
                 // Given
-                CreateUserRequest request = new CreateUserRequest();
-                request.setName("John Doe");
-                request.setEmail("john.doe@example.com");
+                CreateUserRequest request = new CreateUserRequest("John Doe", "john.doe@example.com");
 
                 // When & Then
                 mockMvc.perform(post("/api/users")
@@ -78,13 +77,9 @@ class UserControllerIntegrationTest {
         void shouldReturnExistingUsers() throws Exception {
                 // Given - Create some test users via the service to ensure proper timestamp
                 // handling
-                CreateUserRequest request1 = new CreateUserRequest();
-                request1.setName("John Doe");
-                request1.setEmail("john@example.com");
+                CreateUserRequest request1 = new CreateUserRequest("John Doe", "john@example.com");
 
-                CreateUserRequest request2 = new CreateUserRequest();
-                request2.setName("Jane Smith");
-                request2.setEmail("jane@example.com");
+                CreateUserRequest request2 = new CreateUserRequest("Jane Smith", "jane@example.com");
 
                 // Create users via API to ensure proper handling
                 mockMvc.perform(post("/api/users")
@@ -108,8 +103,7 @@ class UserControllerIntegrationTest {
         @DisplayName("Should return 400 when creating user with missing name")
         void shouldReturn400WithMissingName() throws Exception {
                 // Given
-                CreateUserRequest request = new CreateUserRequest();
-                request.setEmail("john@example.com");
+                CreateUserRequest request = new CreateUserRequest(null, "john@example.com");
                 // name is missing
 
                 // When & Then
@@ -123,8 +117,7 @@ class UserControllerIntegrationTest {
         @DisplayName("Should return 400 when creating user with missing email")
         void shouldReturn400WithMissingEmail() throws Exception {
                 // Given
-                CreateUserRequest request = new CreateUserRequest();
-                request.setName("John Doe");
+                CreateUserRequest request = new CreateUserRequest("John Doe", null);
                 // email is missing
 
                 // When & Then
@@ -138,9 +131,7 @@ class UserControllerIntegrationTest {
         @DisplayName("Should return 400 when creating user with invalid email format")
         void shouldReturn400WithInvalidEmail() throws Exception {
                 // Given
-                CreateUserRequest request = new CreateUserRequest();
-                request.setName("John Doe");
-                request.setEmail("invalid-email-format");
+                CreateUserRequest request = new CreateUserRequest("John Doe", "invalid-email-format");
 
                 // When & Then
                 mockMvc.perform(post("/api/users")
@@ -153,9 +144,7 @@ class UserControllerIntegrationTest {
         @DisplayName("Should return 400 when creating user with empty name")
         void shouldReturn400WithEmptyName() throws Exception {
                 // Given
-                CreateUserRequest request = new CreateUserRequest();
-                request.setName("");
-                request.setEmail("john@example.com");
+                CreateUserRequest request = new CreateUserRequest("", "john@example.com");
 
                 // When & Then
                 mockMvc.perform(post("/api/users")
@@ -168,9 +157,7 @@ class UserControllerIntegrationTest {
         @DisplayName("Should handle duplicate email gracefully")
         void shouldHandleDuplicateEmailGracefully() throws Exception {
                 // Given - Create a user first via API
-                CreateUserRequest firstRequest = new CreateUserRequest();
-                firstRequest.setName("Existing User");
-                firstRequest.setEmail("duplicate@example.com");
+                CreateUserRequest firstRequest = new CreateUserRequest("Existing User", "duplicate@example.com");
 
                 // Create the first user
                 mockMvc.perform(post("/api/users")
@@ -179,9 +166,7 @@ class UserControllerIntegrationTest {
                                 .andExpect(status().isCreated());
 
                 // Try to create another user with the same email
-                CreateUserRequest duplicateRequest = new CreateUserRequest();
-                duplicateRequest.setName("New User");
-                duplicateRequest.setEmail("duplicate@example.com"); // Same email
+                CreateUserRequest duplicateRequest = new CreateUserRequest("New User", "duplicate@example.com"); // Same email
 
                 // When & Then
                 mockMvc.perform(post("/api/users")
@@ -204,9 +189,7 @@ class UserControllerIntegrationTest {
         @DisplayName("Should return 415 when content type is missing")
         void shouldReturn415WithMissingContentType() throws Exception {
                 // Given
-                CreateUserRequest request = new CreateUserRequest();
-                request.setName("John Doe");
-                request.setEmail("john@example.com");
+                CreateUserRequest request = new CreateUserRequest("John Doe", "john@example.com");
 
                 // When & Then
                 mockMvc.perform(post("/api/users")
@@ -218,13 +201,9 @@ class UserControllerIntegrationTest {
         @DisplayName("Should handle multiple user creation and retrieval")
         void shouldHandleMultipleUserCreationAndRetrieval() throws Exception {
                 // Given - Create multiple users via API
-                CreateUserRequest request1 = new CreateUserRequest();
-                request1.setName("User One");
-                request1.setEmail("user1@example.com");
+                CreateUserRequest request1 = new CreateUserRequest("User One", "user1@example.com");
 
-                CreateUserRequest request2 = new CreateUserRequest();
-                request2.setName("User Two");
-                request2.setEmail("user2@example.com");
+                CreateUserRequest request2 = new CreateUserRequest("User Two", "user2@example.com");
 
                 // When - Create first user
                 mockMvc.perform(post("/api/users")
@@ -243,4 +222,81 @@ class UserControllerIntegrationTest {
                                 .andExpect(status().isOk())
                                 .andExpect(jsonPath("$", hasSize(2)));
         }
+
+        @Test
+        @DisplayName("Should page through users with a keyset cursor")
+        void shouldPageThroughUsersWithCursor() throws Exception {
+                // Given
+                for (int i = 1; i <= 3; i++) {
+                        CreateUserRequest request = new CreateUserRequest("User " + i, "user" + i + "@example.com");
+                        mockMvc.perform(post("/api/users")
+                                        .contentType(MediaType.APPLICATION_JSON)
+                                        .content(objectMapper.writeValueAsString(request)))
+                                        .andExpect(status().isCreated());
+                }
+
+                // When
+                String cursor = mockMvc.perform(get("/api/users").param("limit", "2"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$", hasSize(2)))
+                                .andExpect(jsonPath("$[0].email").value("user1@example.com"))
+                                .andExpect(header().exists("X-Next-Cursor"))
+                                .andReturn().getResponse().getHeader("X-Next-Cursor");
+
+                // Then
+                mockMvc.perform(get("/api/users").param("after", cursor).param("limit", "2"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$", hasSize(1)))
+                                .andExpect(jsonPath("$[0].email", is("user3@example.com")))
+                                .andExpect(header().doesNotExist("X-Next-Cursor"));
+        }
+
+        @Test
+        @DisplayName("Should create a JSON batch and report duplicates per item")
+        void shouldCreateJsonBatchAndReportDuplicates() throws Exception {
+                // Given
+                CreateUserRequest existing = new CreateUserRequest("Existing User", "existing@example.com");
+                mockMvc.perform(post("/api/users")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(existing)))
+                                .andExpect(status().isCreated());
+
+                // When & Then
+                mockMvc.perform(post("/api/users/batch")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("""
+                                                [
+                                                  {"name": "User One", "email": "user1@example.com"},
+                                                  {"name": "Existing Again", "email": "existing@example.com"},
+                                                  {"name": "", "email": "user2@example.com"},
+                                                  {"name": "User Three", "email": "user3@example.com"}
+                                                ]
+                                                """))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.created").value(2))
+                                .andExpect(jsonPath("$.rejected").value(2))
+                                .andExpect(jsonPath("$.results[0].status").value("CREATED"))
+                                .andExpect(jsonPath("$.results[0].user.id", notNullValue()))
+                                .andExpect(jsonPath("$.results[1].status").value("DUPLICATE"))
+                                .andExpect(jsonPath("$.results[2].status").value("INVALID"))
+                                .andExpect(jsonPath("$.results[3].status").value("CREATED"));
+
+                mockMvc.perform(get("/api/users"))
+                                .andExpect(jsonPath("$", hasSize(3)));
+        }
+
+        @Test
+        @DisplayName("Should create users from an NDJSON batch")
+        void shouldCreateUsersFromNdjsonBatch() throws Exception {
+                // When & Then
+                mockMvc.perform(post("/api/users/batch")
+                                .contentType(MediaType.APPLICATION_NDJSON)
+                                .content("""
+                                                {"name": "User One", "email": "user1@example.com"}
+                                                {"name": "User Two", "email": "user2@example.com"}
+                                                """))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.created").value(2))
+                                .andExpect(jsonPath("$.results", hasSize(2)));
+        }
 }
@@ -1,32 +1,62 @@
 package com.smartorder.userservice.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.dataformat.cbor.CBORMapper;
+import com.smartorder.userservice.config.WebConfig;
+import com.smartorder.userservice.dto.BatchCreateUserResponse;
+import com.smartorder.userservice.dto.ChangeCursor;
 import com.smartorder.userservice.dto.CreateUserRequest;
+import com.smartorder.userservice.dto.UserChanges;
+import com.smartorder.userservice.dto.UserLookupResponse;
+import com.smartorder.userservice.dto.UserPage;
 import com.smartorder.userservice.dto.UserResponse;
+import com.smartorder.userservice.dto.UserTableVersion;
 import com.smartorder.userservice.exception.EmailAlreadyUsedException;
-import com.smartorder.userservice.model.User;
+import com.smartorder.userservice.exception.UserNotFoundException;
+import com.smartorder.userservice.service.UserBatchService;
 import com.smartorder.userservice.service.UserService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.hamcrest.Matchers.not;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(UserController.class)
+@Import(SimpleMeterRegistry.class)
 @ActiveProfiles("test")
 @DisplayName("UserController Tests")
 class UserControllerTest {
@@ -37,19 +67,27 @@ class UserControllerTest {
     @MockBean
     private UserService userService;
 
+    @MockBean
+    private UserBatchService userBatchService;
+
+    @BeforeEach
+    void setUp() {
+        when(userService.getTableVersion()).thenReturn(new UserTableVersion(2L, LocalDateTime.of(2024, 1, 1, 0, 0)));
+    }
+
     @Test
     @DisplayName("Should return list of users when GET /api/users")
     void shouldReturnListOfUsers() throws Exception {
         // Given
-        List<User> users = Arrays.asList(
-            User.builder()
+        List<UserResponse> users = Arrays.asList(
+            UserResponse.builder()
                 .id(1L)
                 .name("John Doe")
                 .email("john@example.com")
                 .createdAt(LocalDateTime.now())
                 .updatedAt(LocalDateTime.now())
                 .build(),
-            User.builder()
+            UserResponse.builder()
                 .id(2L)
                 .name("Jane Doe")
                 .email("jane@example.com")
@@ -57,12 +95,13 @@ class UserControllerTest {
                 .updatedAt(LocalDateTime.now())
                 .build()
         );
-        when(userService.getAllUsers()).thenReturn(users);
+        when(userService.getUsers(null, null)).thenReturn(UserPage.builder().items(users).build());
 
         // When & Then
         mockMvc.perform(get("/api/users"))
             .andExpect(status().isOk())
             .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+            .andExpect(header().doesNotExist("X-Next-Cursor"))
             .andExpect(jsonPath("$", hasSize(2)))
             .andExpect(jsonPath("$[0].id").value(1))
             .andExpect(jsonPath("$[0].name").value("John Doe"))
@@ -76,7 +115,7 @@ class UserControllerTest {
     @DisplayName("Should return empty list when no users exist")
     void shouldReturnEmptyListWhenNoUsers() throws Exception {
         // Given
-        when(userService.getAllUsers()).thenReturn(Collections.emptyList());
+        when(userService.getUsers(null, null)).thenReturn(UserPage.builder().items(Collections.emptyList()).build());
 
         // When & Then
         mockMvc.perform(get("/api/users"))
@@ -85,13 +124,280 @@ class UserControllerTest {
             .andExpect(jsonPath("$", hasSize(0)));
     }
 
+    @Test
+    @DisplayName("Should pass cursor and limit through and expose next cursor header")
+    void shouldReturnNextCursorHeaderWhenMorePagesExist() throws Exception {
+        // Given
+        UserResponse user = UserResponse.builder()
+            .id(11L)
+            .name("John Doe")
+            .email("john@example.com")
+            .createdAt(LocalDateTime.now())
+            .updatedAt(LocalDateTime.now())
+            .build();
+        when(userService.getUsers(10L, 1)).thenReturn(UserPage.builder()
+            .items(List.of(user))
+            .nextCursor(11L)
+            .build());
+
+        // When & Then
+        mockMvc.perform(get("/api/users").param("after", "10").param("limit", "1"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("X-Next-Cursor", "11"))
+            .andExpect(jsonPath("$", hasSize(1)))
+            .andExpect(jsonPath("$[0].id").value(11));
+    }
+
+    @Test
+    @DisplayName("Should answer 304 without loading a page when the listing ETag still matches")
+    void shouldReturn304WhenListingUnchanged() throws Exception {
+        // Given
+        when(userService.getUsers(null, null)).thenReturn(UserPage.builder().items(Collections.emptyList()).build());
+        String etag = mockMvc.perform(get("/api/users"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Vary", containsString("Accept")))
+            .andReturn().getResponse().getHeader("ETag");
+
+        // When & Then
+        mockMvc.perform(get("/api/users").header("If-None-Match", etag))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string("ETag", etag))
+            .andExpect(content().string(""));
+        verify(userService, times(1)).getUsers(null, null);
+
+        // When & Then - a write changes the version and so the ETag
+        when(userService.getTableVersion()).thenReturn(new UserTableVersion(3L, LocalDateTime.of(2024, 1, 1, 0, 1)));
+        mockMvc.perform(get("/api/users").header("If-None-Match", etag))
+            .andExpect(status().isOk())
+            .andExpect(header().string("ETag", not(etag)));
+    }
+
+    @Test
+    @DisplayName("Should return user when GET /api/users/{id}")
+    void shouldReturnUserById() throws Exception {
+        // Given
+        when(userService.getUser(7L)).thenReturn(UserResponse.builder()
+            .id(7L)
+            .name("John Doe")
+            .email("john@example.com")
+            .build());
+
+        // When & Then
+        mockMvc.perform(get("/api/users/7"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.id").value(7))
+            .andExpect(jsonPath("$.email").value("john@example.com"));
+    }
+
+    @Test
+    @DisplayName("Should write epoch millis and omit nulls when the compact JSON type is requested")
+    void shouldReturnCompactJsonWhenRequested() throws Exception {
+        // Given
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 2, 3, 4, 5);
+        when(userService.getUser(7L)).thenReturn(UserResponse.builder()
+            .id(7L)
+            .name("John Doe")
+            .email("john@example.com")
+            .createdAt(createdAt)
+            .build());
+        long epochMillis = createdAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+
+        // When & Then
+        mockMvc.perform(get("/api/users/7").accept(WebConfig.COMPACT_JSON))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(WebConfig.COMPACT_JSON))
+            .andExpect(jsonPath("$.createdAt").value(epochMillis))
+            .andExpect(jsonPath("$.updatedAt").doesNotExist());
+
+        mockMvc.perform(get("/api/users/7").accept(MediaType.ALL))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+            .andExpect(jsonPath("$.createdAt").value("2024-01-02T03:04:05"));
+    }
+
+    @Test
+    @DisplayName("Should read and write CBOR when POST /api/users with application/cbor")
+    void shouldCreateUserFromCbor() throws Exception {
+        // Given
+        CBORMapper cbor = new CBORMapper();
+        when(userService.createUser(any())).thenReturn(UserResponse.builder()
+            .id(7L)
+            .name("John Doe")
+            .email("john@example.com")
+            .build());
+
+        // When
+        MvcResult result = mockMvc.perform(post("/api/users")
+                .contentType(MediaType.APPLICATION_CBOR)
+                .accept(MediaType.APPLICATION_CBOR)
+                .content(cbor.writeValueAsBytes(new CreateUserRequest("John Doe", "john@example.com"))))
+            .andExpect(status().isCreated())
+            .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+            .andReturn();
+
+        // Then
+        JsonNode body = cbor.readTree(result.getResponse().getContentAsByteArray());
+        assertThat(body.get("id").asLong()).isEqualTo(7L);
+        assertThat(body.get("email").asText()).isEqualTo("john@example.com");
+    }
+
+    @Test
+    @DisplayName("Should return found users and missing keys when POST /api/users/lookup")
+    void shouldLookupUsers() throws Exception {
+        // Given
+        UserResponse john = UserResponse.builder()
+            .id(7L)
+            .name("John Doe")
+            .email("john@example.com")
+            .build();
+        when(userService.lookupUsers(any())).thenReturn(UserLookupResponse.builder()
+            .byId(Map.of(7L, john))
+            .byEmail(Map.of())
+            .missingIds(List.of(8L))
+            .missingEmails(List.of("nobody@example.com"))
+            .build());
+
+        // When & Then
+        mockMvc.perform(post("/api/users/lookup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"ids\":[7,8],\"emails\":[\"nobody@example.com\"]}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.byId.7.email").value("john@example.com"))
+            .andExpect(jsonPath("$.missingIds[0]").value(8))
+            .andExpect(jsonPath("$.missingEmails[0]").value("nobody@example.com"));
+    }
+
+    @Test
+    @DisplayName("Should return 400 when POST /api/users/lookup with too many ids")
+    void shouldRejectOversizedLookup() throws Exception {
+        // Given
+        String ids = LongStream.rangeClosed(1, 10_001)
+            .mapToObj(String::valueOf)
+            .collect(Collectors.joining(","));
+
+        // When & Then
+        mockMvc.perform(post("/api/users/lookup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"ids\":[" + ids + "]}"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should return 404 when GET /api/users/{id} for an unknown user")
+    void shouldReturn404ForUnknownUser() throws Exception {
+        // Given
+        when(userService.getUser(7L)).thenThrow(new UserNotFoundException("No user with id 7"));
+
+        // When & Then
+        mockMvc.perform(get("/api/users/7"))
+            .andExpect(status().isNotFound())
+            .andExpect(jsonPath("$.title").value("User not found"));
+    }
+
+    @Test
+    @DisplayName("Should return changes and the next cursor when GET /api/users/changes")
+    void shouldReturnChangesWithNextCursor() throws Exception {
+        // Given
+        LocalDateTime updatedAt = LocalDateTime.of(2024, 1, 1, 12, 0, 0, 123_000);
+        ChangeCursor since = new ChangeCursor(LocalDateTime.of(2024, 1, 1, 0, 0), 3L);
+        UserResponse changed = UserResponse.builder()
+                .id(9L)
+                .name("John Doe")
+                .email("john@example.com")
+                .createdAt(updatedAt)
+                .updatedAt(updatedAt)
+                .build();
+        ChangeCursor next = ChangeCursor.after(changed);
+        when(userService.getChanges(since, 50)).thenReturn(new UserChanges(List.of(changed), next));
+
+        // When & Then
+        mockMvc.perform(get("/api/users/changes").param("since", since.encode()).param("limit", "50"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("X-Next-Cursor", next.encode()))
+            .andExpect(jsonPath("$", hasSize(1)))
+            .andExpect(jsonPath("$[0].id").value(9));
+        assertThat(ChangeCursor.decode(next.encode())).isEqualTo(next);
+    }
+
+    @Test
+    @DisplayName("Should start the change feed from the beginning when no cursor is given")
+    void shouldStartChangesFromBeginning() throws Exception {
+        // Given
+        when(userService.getChanges(ChangeCursor.START, null))
+                .thenReturn(new UserChanges(List.of(), ChangeCursor.START));
+
+        // When & Then
+        mockMvc.perform(get("/api/users/changes"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("X-Next-Cursor", ChangeCursor.START.encode()))
+            .andExpect(jsonPath("$", hasSize(0)));
+    }
+
+    @Test
+    @DisplayName("Should return 400 when GET /api/users/changes with a cursor it did not issue")
+    void shouldReturn400ForInvalidCursor() throws Exception {
+        mockMvc.perform(get("/api/users/changes").param("since", "not-a-cursor"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.title").value("Invalid cursor"));
+    }
+
+    @Test
+    @DisplayName("Should return 400 when GET /api/users/{id} with a non-numeric id")
+    void shouldReturn400ForNonNumericId() throws Exception {
+        mockMvc.perform(get("/api/users/abc"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should return single user when GET /api/users?email=")
+    void shouldReturnUserByEmail() throws Exception {
+        // Given
+        when(userService.getUserByEmail("john@example.com")).thenReturn(UserResponse.builder()
+            .id(7L)
+            .name("John Doe")
+            .email("john@example.com")
+            .build());
+
+        // When & Then
+        mockMvc.perform(get("/api/users").param("email", "john@example.com"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.id").value(7))
+            .andExpect(jsonPath("$.name").value("John Doe"));
+    }
+
+    @Test
+    @DisplayName("Should stream users as NDJSON when GET /api/users/export")
+    void shouldStreamUsersAsNdjson() throws Exception {
+        // Given
+        List<UserResponse> users = Arrays.asList(
+            UserResponse.builder().id(1L).name("John Doe").email("john@example.com").build(),
+            UserResponse.builder().id(2L).name("Jane Doe").email("jane@example.com").build()
+        );
+        doAnswer(invocation -> {
+            Consumer<UserResponse> consumer = invocation.getArgument(0);
+            users.forEach(consumer);
+            return null;
+        }).when(userService).exportUsers(any());
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/users/export"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+            .andExpect(content().string(matchesPattern("(\\{[^\\n]*}\\n){2}")))
+            .andExpect(content().string(containsString("\"email\":\"john@example.com\"")))
+            .andExpect(content().string(containsString("\"email\":\"jane@example.com\"")));
+    }
+
     @Test
     @DisplayName("Should create user when POST /api/users with valid data")
     void createUser_shouldReturnCreatedUser() throws Exception {
 
-        CreateUserRequest request = new CreateUserRequest();
-        request.setName("John");
-        request.setEmail("john@example.com");
+        CreateUserRequest request = new CreateUserRequest("John", "john@example.com");
 
         UserResponse response = UserResponse.builder()
             .id(1L)
@@ -212,4 +518,58 @@ class UserControllerTest {
                 """))
             .andExpect(status().isUnsupportedMediaType());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should hand NDJSON lines to the batch service, passing malformed lines as null")
+    void shouldParseNdjsonBatchLineByLine() throws Exception {
+        // Given
+        List<CreateUserRequest> received = new ArrayList<>();
+        when(userBatchService.createUsers(any())).thenAnswer(invocation -> {
+            Iterator<CreateUserRequest> requests = invocation.getArgument(0);
+            requests.forEachRemaining(received::add);
+            return BatchCreateUserResponse.builder().created(1).rejected(1).results(List.of()).build();
+        });
+
+        // When & Then
+        mockMvc.perform(post("/api/users/batch")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content("""
+                    {"name": "John", "email": "john@example.com"}
+                    {not json}
+                    """))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.created").value(1))
+            .andExpect(jsonPath("$.rejected").value(1));
+
+        assertThat(received).hasSize(2);
+        assertThat(received.get(0).email()).isEqualTo("john@example.com");
+        assertThat(received.get(1)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should accept a JSON array on POST /api/users/batch")
+    void shouldAcceptJsonArrayBatch() throws Exception {
+        // Given
+        List<CreateUserRequest> received = new ArrayList<>();
+        when(userBatchService.createUsers(any())).thenAnswer(invocation -> {
+            Iterator<CreateUserRequest> requests = invocation.getArgument(0);
+            requests.forEachRemaining(received::add);
+            return BatchCreateUserResponse.builder().created(2).results(List.of()).build();
+        });
+
+        // When & Then
+        mockMvc.perform(post("/api/users/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    [
+                      {"name": "John", "email": "john@example.com"},
+                      {"name": "Jane", "email": "jane@example.com"}
+                    ]
+                """))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.created").value(2));
+
+        assertThat(received).extracting(CreateUserRequest::email)
+            .containsExactly("john@example.com", "jane@example.com");
+    }
+}
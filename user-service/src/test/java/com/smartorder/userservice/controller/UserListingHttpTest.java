@@ -0,0 +1,93 @@
+package com.smartorder.userservice.controller;
+
+import com.smartorder.userservice.dto.CreateUserRequest;
+import com.smartorder.userservice.model.User;
+import com.smartorder.userservice.repository.UserRepository;
+import com.smartorder.userservice.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs against the embedded server, since response compression happens in Tomcat and not in MockMvc.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@DisplayName("User listing HTTP caching and compression Tests")
+class UserListingHttpTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserService userService;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+        userRepository.saveAll(IntStream.range(0, 200)
+                .mapToObj(i -> User.builder().name("User " + i).email("listing" + i + "@example.com").build())
+                .toList());
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should gzip large pages for clients that accept it")
+    void shouldCompressLargePages() throws Exception {
+        // When
+        HttpResponse<byte[]> response = send(HttpRequest.newBuilder(listing()).header("Accept-Encoding", "gzip"));
+
+        // Then
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Encoding")).contains("gzip");
+    }
+
+    @Test
+    @DisplayName("Should answer 304 until the table changes")
+    void shouldRevalidateWithEtag() throws Exception {
+        // Given
+        HttpResponse<byte[]> first = send(HttpRequest.newBuilder(listing()));
+        String etag = first.headers().firstValue("ETag").orElseThrow();
+
+        // When & Then
+        HttpResponse<byte[]> unchanged = send(HttpRequest.newBuilder(listing()).header("If-None-Match", etag));
+        assertThat(unchanged.statusCode()).isEqualTo(304);
+        assertThat(unchanged.body()).isEmpty();
+
+        // When & Then
+        userService.createUser(new CreateUserRequest("Late", "late@example.com"));
+        HttpResponse<byte[]> changed = send(HttpRequest.newBuilder(listing()).header("If-None-Match", etag));
+        assertThat(changed.statusCode()).isEqualTo(200);
+        assertThat(changed.headers().firstValue("ETag")).isPresent().get().isNotEqualTo(etag);
+    }
+
+    private URI listing() {
+        return URI.create("http://localhost:" + port + "/api/users?limit=200");
+    }
+
+    private HttpResponse<byte[]> send(HttpRequest.Builder request) throws Exception {
+        return httpClient.send(request.GET().build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+}
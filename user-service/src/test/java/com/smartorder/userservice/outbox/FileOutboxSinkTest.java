@@ -0,0 +1,65 @@
+package com.smartorder.userservice.outbox;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartorder.userservice.config.OutboxProperties;
+import com.smartorder.userservice.model.OutboxEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("FileOutboxSink Tests")
+class FileOutboxSinkTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Should append one JSON line per event across batches")
+    void shouldAppendNdjsonLines() throws Exception {
+        // Given
+        Path file = directory.resolve("events/user-events.ndjson");
+        OutboxProperties properties = new OutboxProperties();
+        properties.getFile().setPath(file.toString());
+        FileOutboxSink sink = new FileOutboxSink(properties, objectMapper);
+
+        // When
+        sink.publish(List.of(event(1L, 10L), event(2L, 11L)));
+        sink.publish(List.of(event(3L, 12L)));
+        sink.destroy();
+
+        // Then
+        List<String> lines = Files.readAllLines(file);
+        assertThat(lines).hasSize(3);
+        JsonNode first = objectMapper.readTree(lines.get(0));
+        assertThat(first.get("eventId").asLong()).isEqualTo(1L);
+        assertThat(first.get("type").asText()).isEqualTo("UserCreated");
+        assertThat(first.get("aggregateId").asLong()).isEqualTo(10L);
+        assertThat(first.get("payload").get("email").asText()).isEqualTo("user10@example.com");
+        assertThat(Instant.parse(first.get("occurredAt").asText()))
+                .isEqualTo(LocalDateTime.of(2025, 1, 1, 12, 0).atZone(ZoneId.systemDefault()).toInstant());
+        assertThat(objectMapper.readTree(lines.get(2)).get("eventId").asLong()).isEqualTo(3L);
+    }
+
+    private static OutboxEvent event(Long id, Long userId) {
+        return OutboxEvent.builder()
+                .id(id)
+                .aggregateType("User")
+                .aggregateId(userId)
+                .eventType("UserCreated")
+                .payload("{\"id\":" + userId + ",\"email\":\"user" + userId + "@example.com\"}")
+                .createdAt(LocalDateTime.of(2025, 1, 1, 12, 0))
+                .build();
+    }
+}
@@ -0,0 +1,103 @@
+package com.smartorder.userservice.outbox;
+
+import com.smartorder.userservice.dto.CreateUserRequest;
+import com.smartorder.userservice.exception.EmailAlreadyUsedException;
+import com.smartorder.userservice.model.OutboxEvent;
+import com.smartorder.userservice.repository.OutboxRepository;
+import com.smartorder.userservice.repository.UserRepository;
+import com.smartorder.userservice.service.UserBatchService;
+import com.smartorder.userservice.service.UserEventOutbox;
+import com.smartorder.userservice.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+        "smartorder.outbox.relay.enabled=true",
+        "smartorder.outbox.relay.interval=20ms"
+})
+@ActiveProfiles("test")
+@DisplayName("Outbox Relay Integration Tests")
+class OutboxRelayIntegrationTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserBatchService userBatchService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @Autowired
+    private InMemoryOutboxSink sink;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+        outboxRepository.deleteAll();
+        sink.clear();
+    }
+
+    @Test
+    @DisplayName("Should publish a UserCreated event for each created user and drain the outbox")
+    void shouldRelayUserCreatedEvents() throws InterruptedException {
+        // Given
+        userService.createUser(request("Outbox One", "outbox.one@example.com"));
+        userBatchService.createUsers(List.of(
+                request("Outbox Two", "outbox.two@example.com"),
+                request("Outbox Three", "outbox.three@example.com")).iterator());
+
+        // When
+        awaitPublished(3);
+
+        // Then
+        assertThat(sink.getPublished())
+                .extracting(OutboxEvent::getEventType)
+                .containsOnly(UserEventOutbox.USER_CREATED);
+        assertThat(sink.getPublished())
+                .extracting(OutboxEvent::getPayload)
+                .anySatisfy(payload -> assertThat(payload).contains("\"email\":\"outbox.one@example.com\""));
+        assertThat(outboxRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should not write an event when the user insert is rolled back")
+    void shouldNotWriteEventForRejectedUser() throws InterruptedException {
+        // Given
+        userService.createUser(request("Taken", "taken@example.com"));
+        awaitPublished(1);
+
+        // When
+        assertThatThrownBy(() -> userService.createUser(request("Taken Again", "taken@example.com")))
+                .isInstanceOf(EmailAlreadyUsedException.class);
+
+        // Then
+        Thread.sleep(200);
+        assertThat(sink.getPublished()).hasSize(1);
+        assertThat(outboxRepository.count()).isZero();
+    }
+
+    private void awaitPublished(int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (sink.getPublished().size() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(sink.getPublished()).hasSize(expected);
+    }
+
+    private static CreateUserRequest request(String name, String email) {
+        return new CreateUserRequest(name, email);
+    }
+}
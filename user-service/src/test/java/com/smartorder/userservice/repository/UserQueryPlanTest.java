@@ -0,0 +1,176 @@
+package com.smartorder.userservice.repository;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Seeds a large users table through the real Liquibase changelog and checks with EXPLAIN that the SQL
+ * Hibernate generates for the lookups in {@link UserRepository} is served by an index rather than a table
+ * scan. Tagged {@code query-plan}, so it only runs under {@code ./gradlew :user-service:queryPlanTest}.
+ * Row count can be lowered with {@code -Dexplain.rows=...} for quick local runs.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:explaindb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.liquibase.enabled=true",
+        "spring.liquibase.change-log=classpath:db/db.changelog-master.yml"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Tag("query-plan")
+@DisplayName("User query plans")
+class UserQueryPlanTest {
+
+    private static final int ROWS = Integer.getInteger("explain.rows", 1_000_000);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CapturedStatements statements;
+
+    @BeforeAll
+    void seed() {
+        jdbcTemplate.update("""
+                INSERT INTO users (id, name, email, email_normalized, created_at, updated_at)
+                SELECT X, 'User ' || X, 'User' || X || '@Example.com', 'user' || X || '@example.com',
+                       DATEADD('SECOND', X, TIMESTAMP '2024-01-01 00:00:00'),
+                       DATEADD('SECOND', X, TIMESTAMP '2024-06-01 00:00:00')
+                FROM SYSTEM_RANGE(1, ?)
+                """, ROWS);
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @AfterAll
+    void truncate() {
+        jdbcTemplate.execute("TRUNCATE TABLE users");
+    }
+
+    @Test
+    @DisplayName("Case-insensitive email lookup uses the normalized email index")
+    void emailLookupUsesNormalizedIndex() {
+        // When
+        String plan = explainGenerated(() -> userRepository.findResponsesByEmailNormalized(
+                "user4242@example.com", Limit.of(1)));
+
+        // Then
+        assertThat(plan).contains("IDX_USERS_EMAIL_NORMALIZED");
+    }
+
+    @Test
+    @DisplayName("Batch email lookup uses the normalized email index")
+    void batchEmailLookupUsesNormalizedIndex() {
+        // When
+        String plan = explainGenerated(() -> userRepository.findResponsesByEmailNormalizedIn(
+                List.of("user4242@example.com", "user4343@example.com")));
+
+        // Then
+        assertThat(plan).contains("IDX_USERS_EMAIL_NORMALIZED");
+    }
+
+    @Test
+    @DisplayName("created_at range scan uses the (created_at, id) index")
+    void createdAtRangeUsesIndex() {
+        // When
+        String plan = explainGenerated(() -> userRepository.findCreatedBetween(
+                LocalDateTime.of(2024, 1, 2, 0, 0), LocalDateTime.of(2024, 1, 3, 0, 0), Limit.of(100)));
+
+        // Then
+        assertThat(plan).contains("IDX_USERS_CREATED_AT_ID");
+    }
+
+    @Test
+    @DisplayName("updated_at range scan uses the (updated_at, id) index")
+    void updatedAtRangeUsesIndex() {
+        // When
+        String plan = explainGenerated(() -> userRepository.findUpdatedBetween(
+                LocalDateTime.of(2024, 6, 2, 0, 0), LocalDateTime.of(2024, 6, 3, 0, 0), Limit.of(100)));
+
+        // Then
+        assertThat(plan).contains("IDX_USERS_UPDATED_AT_ID");
+    }
+
+    @Test
+    @DisplayName("Change feed page uses the (updated_at, id) index")
+    void changeFeedUsesIndex() {
+        // When
+        String plan = explainGenerated(() -> userRepository.findChangesAfter(
+                LocalDateTime.of(2024, 6, 2, 0, 0), 86_400L, LocalDateTime.of(2024, 6, 3, 0, 0), Limit.of(100)));
+
+        // Then
+        assertThat(plan).contains("IDX_USERS_UPDATED_AT_ID");
+    }
+
+    @Test
+    @DisplayName("Keyset listing walks the primary key")
+    void keysetPageUsesPrimaryKey() {
+        // When
+        String plan = explainGenerated(() -> userRepository.findPageAfter(500_000L, Limit.of(51)));
+
+        // Then
+        assertThat(plan).contains("PRIMARY_KEY");
+    }
+
+    /**
+     * Runs the repository call, then explains the SQL Hibernate generated for it. Parameters stay unbound;
+     * H2 plans {@code EXPLAIN} without them and picks the same index either way.
+     */
+    private String explainGenerated(Runnable repositoryCall) {
+        statements.sql.clear();
+        repositoryCall.run();
+        assertThat(statements.sql).as("SQL generated by the repository call").hasSize(1);
+        return jdbcTemplate.queryForObject("EXPLAIN " + statements.sql.getFirst(), String.class);
+    }
+
+    /** Records every statement Hibernate prepares, unchanged. */
+    static class CapturedStatements implements StatementInspector {
+        private final List<String> sql = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String statement) {
+            sql.add(statement);
+            return statement;
+        }
+    }
+
+    @TestConfiguration
+    static class StatementCaptureConfig {
+        @Bean
+        CapturedStatements capturedStatements() {
+            return new CapturedStatements();
+        }
+
+        @Bean
+        HibernatePropertiesCustomizer captureStatements(CapturedStatements statements) {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, statements);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.smartorder.userservice.repository;
 
+import com.smartorder.userservice.dto.UserResponse;
 import com.smartorder.userservice.model.User;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -7,11 +8,13 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -98,8 +101,8 @@ class UserRepositoryTest {
         assertThat(savedUser.getId()).isGreaterThan(0);
         assertThat(savedUser.getName()).isEqualTo(testUser.getName());
         assertThat(savedUser.getEmail()).isEqualTo(testUser.getEmail());
-        assertThat(savedUser.getCreatedAt()).isEqualTo(testUser.getCreatedAt());
-        assertThat(savedUser.getUpdatedAt()).isEqualTo(testUser.getUpdatedAt());
+        assertThat(savedUser.getCreatedAt()).isNotNull();
+        assertThat(savedUser.getUpdatedAt()).isEqualTo(savedUser.getCreatedAt());
     }
 
     @Test
@@ -263,4 +266,213 @@ class UserRepositoryTest {
             assertThat(e).isNotNull();
         }
     }
+
+    @Test
+    @DisplayName("Should project users after the cursor in id order, limited")
+    void shouldReturnUsersAfterCursorInIdOrder() {
+        // Given
+        User first = entityManager.persistAndFlush(User.builder()
+                .name("User 1")
+                .email("user1@example.com")
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build());
+        User second = entityManager.persistAndFlush(User.builder()
+                .name("User 2")
+                .email("user2@example.com")
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build());
+        User third = entityManager.persistAndFlush(User.builder()
+                .name("User 3")
+                .email("user3@example.com")
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build());
+
+        // When
+        List<UserResponse> page = userRepository.findPageAfter(first.getId(), Limit.of(1));
+        List<UserResponse> rest = userRepository.findPageAfter(second.getId(), Limit.of(10));
+
+        // Then
+        assertThat(page).extracting(UserResponse::id).containsExactly(second.getId());
+        assertThat(page.get(0).email()).isEqualTo("user2@example.com");
+        assertThat(page.get(0).createdAt()).isNotNull();
+        assertThat(rest).extracting(UserResponse::id).containsExactly(third.getId());
+    }
+
+    @Test
+    @DisplayName("Should stream all user projections in id order")
+    void shouldStreamAllUsersInIdOrder() {
+        // Given
+        entityManager.persistAndFlush(testUser);
+        entityManager.persistAndFlush(User.builder()
+                .name("User 2")
+                .email("user2@example.com")
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build());
+
+        // When
+        List<String> emails;
+        try (Stream<UserResponse> users = userRepository.streamAll()) {
+            emails = users.map(UserResponse::email).toList();
+        }
+
+        // Then
+        assertThat(emails).containsExactly("john.doe@example.com", "user2@example.com");
+    }
+
+    @Test
+    @DisplayName("Should return only the emails that already exist")
+    void shouldReturnOnlyExistingEmails() {
+        // Given
+        entityManager.persistAndFlush(testUser);
+
+        // When
+        List<String> existing = userRepository.findExistingEmails(
+                List.of("john.doe@example.com", "nobody@example.com"));
+
+        // Then
+        assertThat(existing).containsExactly("john.doe@example.com");
+    }
+
+    @Test
+    @DisplayName("Should find user projections for a list of ids and emails")
+    void shouldFindResponsesByIdsAndEmails() {
+        // Given
+        User savedUser = entityManager.persistAndFlush(testUser);
+
+        // When
+        List<UserResponse> byId = userRepository.findResponsesByIdIn(List.of(savedUser.getId(), savedUser.getId() + 1000));
+        List<UserResponse> byEmail = userRepository.findResponsesByEmailNormalizedIn(
+                List.of(User.normalizeEmail(testUser.getEmail()), "nonexistent@example.com"));
+
+        // Then
+        assertThat(byId).extracting(UserResponse::email).containsExactly(testUser.getEmail());
+        assertThat(byEmail).extracting(UserResponse::id).containsExactly(savedUser.getId());
+    }
+
+    @Test
+    @DisplayName("Should keep a normalized email and find users by it regardless of case")
+    void shouldFindUsersByNormalizedEmail() {
+        // Given
+        User savedUser = entityManager.persistAndFlush(User.builder()
+                .name("Mixed Case")
+                .email("Mixed.Case@Example.com")
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build());
+
+        // When
+        List<UserResponse> found = userRepository.findResponsesByEmailNormalized(
+                User.normalizeEmail("MIXED.case@example.COM"), Limit.of(1));
+
+        // Then
+        assertThat(savedUser.getEmailNormalized()).isEqualTo("mixed.case@example.com");
+        assertThat(found).extracting(UserResponse::id).containsExactly(savedUser.getId());
+        assertThat(found.get(0).email()).isEqualTo("Mixed.Case@Example.com");
+    }
+
+    @Test
+    @DisplayName("Should return users whose timestamps fall in a half-open range, oldest first")
+    void shouldFindUsersInTimestampRange() {
+        // Given
+        User saved = entityManager.persistAndFlush(testUser);
+        LocalDateTime createdAt = saved.getCreatedAt();
+        LocalDateTime updatedAt = saved.getUpdatedAt();
+
+        // When
+        List<UserResponse> created = userRepository.findCreatedBetween(
+                createdAt.minusSeconds(1), createdAt.plusSeconds(1), Limit.of(10));
+        List<UserResponse> updated = userRepository.findUpdatedBetween(
+                updatedAt.minusSeconds(1), updatedAt.plusSeconds(1), Limit.of(10));
+        List<UserResponse> before = userRepository.findCreatedBetween(
+                createdAt.minusSeconds(10), createdAt, Limit.of(10));
+
+        // Then
+        assertThat(created).extracting(UserResponse::id).containsExactly(saved.getId());
+        assertThat(updated).extracting(UserResponse::id).containsExactly(saved.getId());
+        assertThat(before).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should return changes after the cursor, breaking updated_at ties by id and holding back unsettled rows")
+    void shouldReturnChangesAfterCursor() {
+        // Given
+        LocalDateTime tick = LocalDateTime.of(2024, 1, 1, 12, 0);
+        User first = persistUpdatedAt("user1@example.com", tick);
+        User second = persistUpdatedAt("user2@example.com", tick);
+        User third = persistUpdatedAt("user3@example.com", tick.plusSeconds(1));
+        User recent = persistUpdatedAt("user4@example.com", tick.plusSeconds(10));
+
+        // When
+        List<UserResponse> afterFirst = userRepository.findChangesAfter(
+                tick, first.getId(), tick.plusSeconds(5), Limit.of(10));
+        List<UserResponse> firstPage = userRepository.findChangesAfter(
+                tick.minusSeconds(1), 0L, tick.plusSeconds(5), Limit.of(2));
+
+        // Then
+        assertThat(afterFirst).extracting(UserResponse::id).containsExactly(second.getId(), third.getId());
+        assertThat(afterFirst).extracting(UserResponse::id).doesNotContain(recent.getId());
+        assertThat(firstPage).extracting(UserResponse::id).containsExactly(first.getId(), second.getId());
+    }
+
+    @Test
+    @DisplayName("Should stamp created and updated timestamps on insert and refresh updated on update")
+    void shouldStampAuditTimestamps() {
+        // Given
+        LocalDateTime before = LocalDateTime.now().minusSeconds(1);
+        User saved = entityManager.persistAndFlush(User.builder()
+                .name("Audited")
+                .email("audited@example.com")
+                .build());
+        LocalDateTime createdAt = saved.getCreatedAt();
+        LocalDateTime insertedUpdatedAt = saved.getUpdatedAt();
+        saved.setUpdatedAt(createdAt.minusDays(1));
+
+        // When
+        saved.setName("Audited Again");
+        entityManager.flush();
+
+        // Then
+        assertThat(createdAt).isAfter(before);
+        assertThat(insertedUpdatedAt).isEqualTo(createdAt);
+        assertThat(saved.getCreatedAt()).isEqualTo(createdAt);
+        assertThat(saved.getUpdatedAt()).isAfterOrEqualTo(createdAt);
+    }
+
+    @Test
+    @DisplayName("Should overwrite caller-supplied timestamps on insert")
+    void shouldOverwriteSuppliedTimestampsOnInsert() {
+        // Given
+        LocalDateTime before = LocalDateTime.now().minusSeconds(1);
+        LocalDateTime supplied = LocalDateTime.of(2000, 1, 1, 0, 0);
+
+        // When
+        User saved = entityManager.persistAndFlush(User.builder()
+                .name("Backdated")
+                .email("backdated@example.com")
+                .createdAt(supplied)
+                .updatedAt(supplied)
+                .build());
+
+        // Then
+        assertThat(saved.getCreatedAt()).isAfter(before);
+        assertThat(saved.getUpdatedAt()).isEqualTo(saved.getCreatedAt());
+    }
+
+    /**
+     * Inserts a user and then backdates it with a bulk update, which skips the entity callbacks
+     * that would otherwise stamp the current time.
+     */
+    private User persistUpdatedAt(String email, LocalDateTime updatedAt) {
+        User user = entityManager.persistAndFlush(User.builder().name(email).email(email).build());
+        entityManager.getEntityManager()
+                .createQuery("update User u set u.createdAt = :at, u.updatedAt = :at where u.id = :id")
+                .setParameter("at", updatedAt)
+                .setParameter("id", user.getId())
+                .executeUpdate();
+        return user;
+    }
 }
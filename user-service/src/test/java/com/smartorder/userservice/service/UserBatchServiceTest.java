@@ -0,0 +1,196 @@
+package com.smartorder.userservice.service;
+
+import com.smartorder.userservice.config.CacheConfig;
+import com.smartorder.userservice.config.UserProperties;
+import com.smartorder.userservice.dto.BatchCreateUserResponse;
+import com.smartorder.userservice.dto.BatchCreateUserResult;
+import com.smartorder.userservice.dto.BatchCreateUserResult.Status;
+import com.smartorder.userservice.dto.CreateUserRequest;
+import com.smartorder.userservice.model.User;
+import com.smartorder.userservice.repository.UserRepository;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserBatchService Unit Tests")
+class UserBatchServiceTest {
+
+    private static final Validator VALIDATOR = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private UserEventOutbox userEventOutbox;
+
+    @Mock
+    private UserTableVersionCache userTableVersionCache;
+
+    private UserProperties userProperties;
+    private UserBatchService userBatchService;
+    private final AtomicLong ids = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        userProperties = new UserProperties();
+        userBatchService = new UserBatchService(userRepository, VALIDATOR,
+                new TransactionTemplate(transactionManager), userProperties,
+                new ConcurrentMapCacheManager(CacheConfig.USERS_BY_EMAIL), userEventOutbox, userTableVersionCache);
+    }
+
+    @Test
+    @DisplayName("Should create valid users and report invalid and duplicate items individually")
+    void shouldReportPerItemResults() {
+        // Given
+        when(userRepository.findExistingEmails(anyCollection())).thenReturn(List.of("taken@example.com"));
+        when(userRepository.saveAllAndFlush(anyList())).thenAnswer(invocation -> assignIds(invocation.getArgument(0)));
+
+        List<CreateUserRequest> requests = Arrays.asList(
+                request("John", "john@example.com"),
+                request("", "blank@example.com"),
+                request("Taken", "taken@example.com"),
+                request("John Again", "john@example.com"),
+                null,
+                request("Jane", "jane@example.com"));
+
+        // When
+        BatchCreateUserResponse response = userBatchService.createUsers(requests.iterator());
+
+        // Then
+        assertThat(response.created()).isEqualTo(2);
+        assertThat(response.rejected()).isEqualTo(4);
+        assertThat(response.truncated()).isFalse();
+        assertThat(response.results()).extracting(BatchCreateUserResult::index)
+                .containsExactly(0, 1, 2, 3, 4, 5);
+        assertThat(response.results()).extracting(BatchCreateUserResult::status)
+                .containsExactly(Status.CREATED, Status.INVALID, Status.DUPLICATE,
+                        Status.DUPLICATE, Status.INVALID, Status.CREATED);
+        assertThat(response.results().get(1).error()).isEqualTo("name:Name is required");
+        assertThat(response.results().get(5).user().email()).isEqualTo("jane@example.com");
+        verify(userRepository, times(1)).findExistingEmails(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Should bound each chunk's transaction by the configured timeout")
+    void shouldApplyTransactionTimeout() {
+        // Given
+        when(userRepository.findExistingEmails(anyCollection())).thenReturn(List.of());
+        when(userRepository.saveAllAndFlush(anyList())).thenAnswer(invocation -> assignIds(invocation.getArgument(0)));
+
+        // When
+        userBatchService.createUsers(List.of(request("John", "john@example.com")).iterator());
+
+        // Then
+        verify(transactionManager).getTransaction(argThat(definition -> definition.getTimeout() == 10));
+    }
+
+    @Test
+    @DisplayName("Should write users in chunks of the configured size")
+    void shouldWriteInConfiguredChunks() {
+        // Given
+        userProperties.getBatch().setChunkSize(2);
+        when(userRepository.findExistingEmails(anyCollection())).thenReturn(List.of());
+        when(userRepository.saveAllAndFlush(anyList())).thenAnswer(invocation -> assignIds(invocation.getArgument(0)));
+
+        List<CreateUserRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            requests.add(request("User " + i, "user" + i + "@example.com"));
+        }
+
+        // When
+        BatchCreateUserResponse response = userBatchService.createUsers(requests.iterator());
+
+        // Then
+        assertThat(response.created()).isEqualTo(5);
+        verify(userRepository, times(3)).saveAllAndFlush(anyList());
+        verify(userRepository, times(3)).findExistingEmails(anyCollection());
+        verify(userEventOutbox, times(3)).usersCreated(anyList());
+    }
+
+    @Test
+    @DisplayName("Should fall back to row-by-row inserts when a chunk hits a concurrent duplicate")
+    void shouldIsolateConflictingRowWhenChunkFails() {
+        // Given
+        when(userRepository.findExistingEmails(anyCollection())).thenReturn(List.of());
+        when(userRepository.saveAllAndFlush(anyList())).thenThrow(new DataIntegrityViolationException("duplicate"));
+        when(userRepository.saveAndFlush(any(User.class))).thenAnswer(invocation -> {
+            User user = invocation.getArgument(0);
+            if (user.getEmail().equals("raced@example.com")) {
+                throw new DataIntegrityViolationException("duplicate",
+                        new ConstraintViolationException("duplicate", null, "PUBLIC.UC_USERS_EMAIL_INDEX_4"));
+            }
+            return assignIds(List.of(user)).get(0);
+        });
+
+        // When
+        BatchCreateUserResponse response = userBatchService.createUsers(List.of(
+                request("John", "john@example.com"),
+                request("Raced", "raced@example.com")).iterator());
+
+        // Then
+        assertThat(response.results()).extracting(BatchCreateUserResult::status)
+                .containsExactly(Status.CREATED, Status.DUPLICATE);
+        assertThat(response.results().get(1).error()).isEqualTo("Email already in use");
+        verify(userEventOutbox, times(1)).userCreated(argThat(user -> user.getEmail().equals("john@example.com")));
+        verify(userEventOutbox, never()).usersCreated(anyList());
+    }
+
+    @Test
+    @DisplayName("Should stop reading and flag the response once max items is reached")
+    void shouldTruncateAtMaxItems() {
+        // Given
+        userProperties.getBatch().setMaxItems(1);
+        when(userRepository.findExistingEmails(anyCollection())).thenReturn(List.of());
+        when(userRepository.saveAllAndFlush(anyList())).thenAnswer(invocation -> assignIds(invocation.getArgument(0)));
+
+        // When
+        BatchCreateUserResponse response = userBatchService.createUsers(List.of(
+                request("John", "john@example.com"),
+                request("Jane", "jane@example.com")).iterator());
+
+        // Then
+        assertThat(response.truncated()).isTrue();
+        assertThat(response.results()).hasSize(1);
+        assertThat(response.created()).isEqualTo(1);
+    }
+
+    private List<User> assignIds(List<User> users) {
+        users.forEach(user -> {
+            user.setId(ids.incrementAndGet());
+            user.setCreatedAt(LocalDateTime.now());
+            user.setUpdatedAt(LocalDateTime.now());
+        });
+        return users;
+    }
+
+    private static CreateUserRequest request(String name, String email) {
+        return new CreateUserRequest(name, email);
+    }
+}
@@ -0,0 +1,113 @@
+package com.smartorder.userservice.service;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.smartorder.userservice.config.CacheConfig;
+import com.smartorder.userservice.dto.CreateUserRequest;
+import com.smartorder.userservice.dto.UserResponse;
+import com.smartorder.userservice.model.User;
+import com.smartorder.userservice.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("UserService Cache Integration Tests")
+class UserServiceCacheTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    @Test
+    @DisplayName("Should serve repeated id lookups from the cache")
+    void shouldServeRepeatedLookupsFromCache() {
+        // Given
+        User user = userRepository.saveAndFlush(User.builder()
+                .name("John Doe")
+                .email("john@example.com")
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build());
+        CacheStats before = stats(CacheConfig.USERS_BY_ID);
+
+        // When
+        UserResponse first = userService.getUser(user.getId());
+        UserResponse second = userService.getUser(user.getId());
+
+        // Then
+        assertThat(second).isEqualTo(first);
+        CacheStats after = stats(CacheConfig.USERS_BY_ID);
+        assertThat(after.missCount() - before.missCount()).isEqualTo(1);
+        assertThat(after.hitCount() - before.hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should evict the email entry when a user is created")
+    void shouldEvictEmailEntryOnCreate() {
+        // Given
+        cacheManager.getCache(CacheConfig.USERS_BY_EMAIL)
+                .put("jane@example.com", UserResponse.builder().id(99L).email("jane@example.com").build());
+        CreateUserRequest request = new CreateUserRequest("Jane Doe", "jane@example.com");
+
+        // When
+        userService.createUser(request);
+
+        // Then
+        assertThat(cacheManager.getCache(CacheConfig.USERS_BY_EMAIL).get("jane@example.com")).isNull();
+        assertThat(userService.getUserByEmail("jane@example.com").name()).isEqualTo("Jane Doe");
+    }
+
+    @Test
+    @DisplayName("Should share one email entry across casings and evict it when any casing registers")
+    void shouldKeyEmailEntriesOnTheNormalizedEmail() {
+        // Given
+        userRepository.saveAndFlush(User.builder()
+                .name("John Doe")
+                .email("john@example.com")
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build());
+        CacheStats before = stats(CacheConfig.USERS_BY_EMAIL);
+
+        // When
+        userService.getUserByEmail("John@Example.com");
+        userService.getUserByEmail("JOHN@example.com");
+        CacheStats afterLookups = stats(CacheConfig.USERS_BY_EMAIL);
+        cacheManager.getCache(CacheConfig.USERS_BY_EMAIL)
+                .put("jane@example.com", UserResponse.builder().id(99L).email("jane@example.com").build());
+        userService.createUser(new CreateUserRequest("Jane Doe", "Jane@Example.COM"));
+
+        // Then
+        assertThat(afterLookups.missCount() - before.missCount()).isEqualTo(1);
+        assertThat(afterLookups.hitCount() - before.hitCount()).isEqualTo(1);
+        assertThat(cacheManager.getCache(CacheConfig.USERS_BY_EMAIL).get("john@example.com")).isNotNull();
+        assertThat(cacheManager.getCache(CacheConfig.USERS_BY_EMAIL).get("jane@example.com")).isNull();
+    }
+
+    private CacheStats stats(String cacheName) {
+        return ((CaffeineCache) cacheManager.getCache(cacheName)).getNativeCache().stats();
+    }
+}
@@ -1,21 +1,37 @@
 package com.smartorder.userservice.service;
 
+import com.smartorder.userservice.config.UserProperties;
+import com.smartorder.userservice.dto.ChangeCursor;
 import com.smartorder.userservice.dto.CreateUserRequest;
+import com.smartorder.userservice.dto.UserChanges;
+import com.smartorder.userservice.dto.UserLookupRequest;
+import com.smartorder.userservice.dto.UserLookupResponse;
+import com.smartorder.userservice.dto.UserPage;
 import com.smartorder.userservice.dto.UserResponse;
 import com.smartorder.userservice.exception.EmailAlreadyUsedException;
+import com.smartorder.userservice.exception.UserNotFoundException;
 import com.smartorder.userservice.model.User;
 import com.smartorder.userservice.repository.UserRepository;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -29,10 +45,20 @@ class UserServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Spy
+    private UserProperties userProperties = new UserProperties();
+
+    @Mock
+    private UserEventOutbox userEventOutbox;
+
+    @Mock
+    private UserTableVersionCache userTableVersionCache;
+
     @InjectMocks
     private UserService userService;
 
     private User testUser;
+    private UserResponse testUserResponse;
     private CreateUserRequest createUserRequest;
 
     @BeforeEach
@@ -45,24 +71,75 @@ class UserServiceTest {
                 .updatedAt(LocalDateTime.now())
                 .build();
 
-        createUserRequest = new CreateUserRequest();
-        createUserRequest.setName("Jane Doe");
-        createUserRequest.setEmail("jane.doe@example.com");
+        testUserResponse = UserResponse.builder()
+                .id(testUser.getId())
+                .name(testUser.getName())
+                .email(testUser.getEmail())
+                .createdAt(testUser.getCreatedAt())
+                .updatedAt(testUser.getUpdatedAt())
+                .build();
+
+        createUserRequest = new CreateUserRequest("Jane Doe", "jane.doe@example.com");
+    }
+
+    @Test
+    @DisplayName("Should return first page with default page size when no cursor is given")
+    void shouldReturnFirstPageWithDefaultPageSize() {
+        // Given
+        List<UserResponse> expectedUsers = Arrays.asList(testUserResponse);
+        when(userRepository.findPageAfter(0L, Limit.of(101))).thenReturn(expectedUsers);
+
+        // When
+        UserPage page = userService.getUsers(null, null);
+
+        // Then
+        assertThat(page.items()).isEqualTo(expectedUsers);
+        assertThat(page.nextCursor()).isNull();
+        verify(userRepository, times(1)).findPageAfter(0L, Limit.of(101));
+    }
+
+    @Test
+    @DisplayName("Should trim the look-ahead row and return next cursor when more users exist")
+    void shouldReturnNextCursorWhenMoreUsersExist() {
+        // Given
+        UserResponse secondUser = UserResponse.builder().id(2L).name("Jane Doe").email("jane.doe@example.com").build();
+        UserResponse thirdUser = UserResponse.builder().id(3L).name("Jim Doe").email("jim.doe@example.com").build();
+        when(userRepository.findPageAfter(1L, Limit.of(3)))
+                .thenReturn(Arrays.asList(secondUser, thirdUser, UserResponse.builder().id(4L).build()));
+
+        // When
+        UserPage page = userService.getUsers(1L, 2);
+
+        // Then
+        assertThat(page.items()).containsExactly(secondUser, thirdUser);
+        assertThat(page.nextCursor()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("Should cap requested page size at the configured maximum")
+    void shouldCapPageSizeAtConfiguredMaximum() {
+        // Given
+        when(userRepository.findPageAfter(0L, Limit.of(1001))).thenReturn(List.of());
+
+        // When
+        userService.getUsers(null, 50_000);
+
+        // Then
+        verify(userRepository, times(1)).findPageAfter(0L, Limit.of(1001));
     }
 
     @Test
-    @DisplayName("Should return all users when getAllUsers is called")
-    void shouldReturnAllUsers() {
+    @DisplayName("Should stream user projections to the consumer")
+    void shouldStreamUsersToConsumer() {
         // Given
-        List<User> expectedUsers = Arrays.asList(testUser);
-        when(userRepository.findAll()).thenReturn(expectedUsers);
+        when(userRepository.streamAll()).thenReturn(Stream.of(testUserResponse));
+        List<UserResponse> exported = new ArrayList<>();
 
         // When
-        List<User> actualUsers = userService.getAllUsers();
+        userService.exportUsers(exported::add);
 
         // Then
-        assertThat(actualUsers).isEqualTo(expectedUsers);
-        verify(userRepository, times(1)).findAll();
+        assertThat(exported).containsExactly(testUserResponse);
     }
 
     @Test
@@ -71,56 +148,188 @@ class UserServiceTest {
         // Given
         User savedUser = User.builder()
                 .id(2L)
-                .name(createUserRequest.getName())
-                .email(createUserRequest.getEmail())
+                .name(createUserRequest.name())
+                .email(createUserRequest.email())
                 .createdAt(LocalDateTime.now())
                 .updatedAt(LocalDateTime.now())
                 .build();
 
-        when(userRepository.existsByEmail(createUserRequest.getEmail())).thenReturn(false);
-        when(userRepository.save(any(User.class))).thenReturn(savedUser);
+        when(userRepository.saveAndFlush(any(User.class))).thenReturn(savedUser);
 
         // When
         UserResponse response = userService.createUser(createUserRequest);
 
         // Then
         assertThat(response).isNotNull();
-        assertThat(response.getId()).isEqualTo(savedUser.getId());
-        assertThat(response.getName()).isEqualTo(savedUser.getName());
-        assertThat(response.getEmail()).isEqualTo(savedUser.getEmail());
-        assertThat(response.getCreatedAt()).isEqualTo(savedUser.getCreatedAt());
-        assertThat(response.getUpdatedAt()).isEqualTo(savedUser.getUpdatedAt());
+        assertThat(response.id()).isEqualTo(savedUser.getId());
+        assertThat(response.name()).isEqualTo(savedUser.getName());
+        assertThat(response.email()).isEqualTo(savedUser.getEmail());
+        assertThat(response.createdAt()).isEqualTo(savedUser.getCreatedAt());
+        assertThat(response.updatedAt()).isEqualTo(savedUser.getUpdatedAt());
 
-        verify(userRepository, times(1)).existsByEmail(createUserRequest.getEmail());
-        verify(userRepository, times(1)).save(any(User.class));
+        verify(userRepository, times(1)).saveAndFlush(any(User.class));
+        verify(userRepository, never()).existsByEmail(any());
+        verify(userEventOutbox).userCreated(savedUser);
     }
 
     @Test
-    @DisplayName("Should throw EmailAlreadyUsedException when email is already used")
+    @DisplayName("Should throw EmailAlreadyUsedException when the insert hits the email unique constraint")
     void shouldThrowExceptionWhenEmailAlreadyUsed() {
         // Given
-        when(userRepository.existsByEmail(createUserRequest.getEmail())).thenReturn(true);
+        when(userRepository.saveAndFlush(any(User.class))).thenThrow(new DataIntegrityViolationException("duplicate",
+                new ConstraintViolationException("duplicate", null, "PUBLIC.UC_USERS_EMAIL_INDEX_4")));
 
         // When & Then
         assertThatThrownBy(() -> userService.createUser(createUserRequest))
                 .isInstanceOf(EmailAlreadyUsedException.class)
                 .hasMessage("Email already in use");
 
-        verify(userRepository, times(1)).existsByEmail(createUserRequest.getEmail());
-        verify(userRepository, never()).save(any(User.class));
+        verify(userRepository, times(1)).saveAndFlush(any(User.class));
+        verify(userRepository, never()).existsByEmail(any());
+        verifyNoInteractions(userEventOutbox);
+    }
+
+    @Test
+    @DisplayName("Should rethrow integrity violations that are not about the email constraint")
+    void shouldRethrowOtherIntegrityViolations() {
+        // Given
+        DataIntegrityViolationException violation = new DataIntegrityViolationException("not null",
+                new ConstraintViolationException("not null", null, "PUBLIC.CONSTRAINT_4"));
+        when(userRepository.saveAndFlush(any(User.class))).thenThrow(violation);
+
+        // When & Then
+        assertThatThrownBy(() -> userService.createUser(createUserRequest)).isSameAs(violation);
+    }
+
+    @Test
+    @DisplayName("Should return empty page when no users exist")
+    void shouldReturnEmptyPageWhenNoUsersExist() {
+        // Given
+        when(userRepository.findPageAfter(0L, Limit.of(101))).thenReturn(Arrays.asList());
+
+        // When
+        UserPage page = userService.getUsers(null, null);
+
+        // Then
+        assertThat(page.items()).isEmpty();
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should return user projection by id")
+    void shouldReturnUserById() {
+        // Given
+        when(userRepository.findResponseById(1L)).thenReturn(Optional.of(testUserResponse));
+
+        // When
+        UserResponse response = userService.getUser(1L);
+
+        // Then
+        assertThat(response).isEqualTo(testUserResponse);
+    }
+
+    @Test
+    @DisplayName("Should return changes after the cursor and advance it to the last item")
+    void shouldReturnChangesAndAdvanceCursor() {
+        // Given
+        ChangeCursor since = new ChangeCursor(LocalDateTime.of(2024, 1, 1, 0, 0), 7L);
+        when(userRepository.findChangesAfter(eq(since.updatedAt()), eq(7L), any(LocalDateTime.class), eq(Limit.of(100))))
+                .thenReturn(List.of(testUserResponse));
+
+        // When
+        UserChanges changes = userService.getChanges(since, null);
+
+        // Then
+        assertThat(changes.items()).containsExactly(testUserResponse);
+        assertThat(changes.nextCursor()).isEqualTo(new ChangeCursor(testUserResponse.updatedAt(), testUserResponse.id()));
+    }
+
+    @Test
+    @DisplayName("Should keep the cursor and hold back the settle window when there are no changes")
+    void shouldKeepCursorWhenNoChanges() {
+        // Given
+        userProperties.getChanges().setSettleWindow(Duration.ofMinutes(5));
+        ArgumentCaptor<LocalDateTime> settledBefore = ArgumentCaptor.forClass(LocalDateTime.class);
+        when(userRepository.findChangesAfter(any(), anyLong(), settledBefore.capture(), any())).thenReturn(List.of());
+
+        // When
+        UserChanges changes = userService.getChanges(ChangeCursor.START, 10);
+
+        // Then
+        assertThat(changes.items()).isEmpty();
+        assertThat(changes.nextCursor()).isEqualTo(ChangeCursor.START);
+        assertThat(settledBefore.getValue()).isBefore(LocalDateTime.now().minusMinutes(4));
+    }
+
+    @Test
+    @DisplayName("Should throw UserNotFoundException when no user has the email")
+    void shouldThrowWhenEmailIsUnknown() {
+        // Given
+        when(userRepository.findResponsesByEmailNormalized("nobody@example.com", Limit.of(1))).thenReturn(List.of());
+
+        // When & Then
+        assertThatThrownBy(() -> userService.getUserByEmail("nobody@example.com"))
+                .isInstanceOf(UserNotFoundException.class)
+                .hasMessage("No user with email nobody@example.com");
+    }
+
+    @Test
+    @DisplayName("Should look up users by email regardless of case")
+    void shouldLookUpEmailCaseInsensitively() {
+        // Given
+        when(userRepository.findResponsesByEmailNormalized("john.doe@example.com", Limit.of(1)))
+                .thenReturn(List.of(testUserResponse));
+
+        // When
+        UserResponse response = userService.getUserByEmail("  John.Doe@Example.COM ");
+
+        // Then
+        assertThat(response).isEqualTo(testUserResponse);
+    }
+
+    @Test
+    @DisplayName("Should resolve ids in chunked IN queries and report the missing ones")
+    void shouldLookupUsersInChunks() {
+        // Given
+        userProperties.getLookup().setChunkSize(2);
+        when(userRepository.findResponsesByIdIn(any())).thenAnswer(invocation -> {
+            List<Long> ids = invocation.getArgument(0);
+            return ids.stream()
+                    .filter(id -> id % 2 == 1)
+                    .map(id -> UserResponse.builder().id(id).email("user" + id + "@example.com").build())
+                    .toList();
+        });
+
+        // When
+        UserLookupResponse response = userService.lookupUsers(
+                new UserLookupRequest(Arrays.asList(1L, 2L, 3L, 3L, null, 4L, 5L), List.of()));
+
+        // Then
+        assertThat(response.byId()).containsOnlyKeys(1L, 3L, 5L);
+        assertThat(response.missingIds()).containsExactly(2L, 4L);
+        assertThat(response.byEmail()).isEmpty();
+        assertThat(response.missingEmails()).isEmpty();
+        verify(userRepository).findResponsesByIdIn(List.of(1L, 2L));
+        verify(userRepository).findResponsesByIdIn(List.of(3L, 4L));
+        verify(userRepository).findResponsesByIdIn(List.of(5L));
+        verify(userRepository, never()).findResponsesByEmailNormalizedIn(any());
     }
 
     @Test
-    @DisplayName("Should return empty list when no users exist")
-    void shouldReturnEmptyListWhenNoUsersExist() {
+    @DisplayName("Should resolve emails regardless of case, keyed on the normalized email")
+    void shouldLookupUsersByEmail() {
         // Given
-        when(userRepository.findAll()).thenReturn(Arrays.asList());
+        when(userRepository.findResponsesByEmailNormalizedIn(List.of("john.doe@example.com", "nobody@example.com")))
+                .thenReturn(List.of(testUserResponse));
 
         // When
-        List<User> users = userService.getAllUsers();
+        UserLookupResponse response = userService.lookupUsers(new UserLookupRequest(null,
+                List.of("John.Doe@Example.com", "john.doe@example.com", " Nobody@example.com")));
 
         // Then
-        assertThat(users).isEmpty();
-        verify(userRepository, times(1)).findAll();
+        assertThat(response.byEmail()).containsOnlyKeys("john.doe@example.com");
+        assertThat(response.byEmail()).containsEntry("john.doe@example.com", testUserResponse);
+        assertThat(response.missingEmails()).containsExactly("nobody@example.com");
+        assertThat(response.byId()).isEmpty();
     }
 }
@@ -0,0 +1,99 @@
+package com.smartorder.userservice.service;
+
+import com.smartorder.userservice.config.UserProperties;
+import com.smartorder.userservice.dto.UserTableVersion;
+import com.smartorder.userservice.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserTableVersionCache Unit Tests")
+class UserTableVersionCacheTest {
+
+    private static final UserTableVersion V1 = new UserTableVersion(1L, LocalDateTime.of(2024, 1, 1, 0, 0));
+    private static final UserTableVersion V2 = new UserTableVersion(2L, LocalDateTime.of(2024, 1, 1, 0, 1));
+
+    @Mock
+    private UserRepository userRepository;
+
+    private UserProperties userProperties;
+    private UserTableVersionCache cache;
+
+    @BeforeEach
+    void setUp() {
+        userProperties = new UserProperties();
+        userProperties.getListing().setVersionTtl(Duration.ofMinutes(1));
+        cache = new UserTableVersionCache(userRepository, userProperties);
+    }
+
+    @Test
+    @DisplayName("Should reuse the table version within the TTL")
+    void shouldReuseVersionWithinTtl() {
+        // Given
+        when(userRepository.findTableVersion()).thenReturn(V1);
+
+        // When
+        UserTableVersion first = cache.get();
+        UserTableVersion second = cache.get();
+
+        // Then
+        assertThat(first).isEqualTo(V1);
+        assertThat(second).isEqualTo(V1);
+        verify(userRepository).findTableVersion();
+    }
+
+    @Test
+    @DisplayName("Should run the aggregate again once the TTL has passed")
+    void shouldReloadAfterTtl() {
+        // Given
+        userProperties.getListing().setVersionTtl(Duration.ZERO);
+        when(userRepository.findTableVersion()).thenReturn(V1, V2);
+
+        // When
+        cache.get();
+        UserTableVersion reloaded = cache.get();
+
+        // Then
+        assertThat(reloaded).isEqualTo(V2);
+        verify(userRepository, times(2)).findTableVersion();
+    }
+
+    @Test
+    @DisplayName("Should drop the cached version only once the writing transaction commits")
+    void shouldReloadAfterWriteCommits() {
+        // Given
+        when(userRepository.findTableVersion()).thenReturn(V1, V2);
+        cache.get();
+
+        // When
+        TransactionSynchronizationManager.initSynchronization();
+        UserTableVersion beforeCommit;
+        try {
+            cache.tableChanged();
+            beforeCommit = cache.get();
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        UserTableVersion afterCommit = cache.get();
+
+        // Then
+        assertThat(beforeCommit).isEqualTo(V1);
+        assertThat(afterCommit).isEqualTo(V2);
+        verify(userRepository, times(2)).findTableVersion();
+    }
+}